@@ -0,0 +1,112 @@
+package org.redisson.hibernate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonStorageTest {
+
+    private RedissonClient redisson;
+
+    @Before
+    public void before() {
+        redisson = Redisson.create();
+        redisson.getKeys().flushall();
+    }
+
+    @After
+    public void after() {
+        redisson.shutdown();
+    }
+
+    private RedissonStorage createStorage(String name, Map<String, Object> properties) {
+        RMapCache<Object, Object> mapCache = redisson.getMapCache(name);
+        return new RedissonStorage(mapCache, redisson, properties, RedissonRegionFactory.ENTITY_DEF);
+    }
+
+    private Map<Object, Object> createEntries() {
+        Map<Object, Object> entries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put("key" + i, "value" + i);
+        }
+        return entries;
+    }
+
+    @Test
+    public void testBulkGetPut() {
+        RedissonStorage storage = createStorage("test", new HashMap<>());
+
+        Map<Object, Object> entries = createEntries();
+        storage.putIntoCache(entries, null);
+
+        assertThat(storage.getFromCache(entries.keySet(), null)).isEqualTo(entries);
+        assertThat(storage.getFromCache(Arrays.asList("key1", "unknown"), null))
+                .containsOnlyKeys("key1");
+    }
+
+    @Test
+    public void testBulkGetPutMaxIdle() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(RedissonRegionFactory.CONFIG_PREFIX + "test" + RedissonRegionFactory.MAX_IDLE_SUFFIX, "10000");
+        properties.put(RedissonRegionFactory.CONFIG_PREFIX + "test" + RedissonRegionFactory.TTL_SUFFIX, "20000");
+        RedissonStorage storage = createStorage("test", properties);
+
+        Map<Object, Object> entries = createEntries();
+        storage.putIntoCache(entries, null);
+
+        assertThat(storage.getFromCache(entries.keySet(), null)).isEqualTo(entries);
+        assertThat(redisson.getMapCache("test").remainTimeToLive("key1")).isBetween(1L, 10000L);
+    }
+
+    @Test
+    public void testBulkFallback() {
+        redisson.getBucket("test").set("1");
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(RedissonRegionFactory.FALLBACK, "true");
+        RedissonStorage storage = createStorage("test", properties);
+
+        assertThat(storage.getFromCache(Arrays.asList("key1", "key2"), null)).isEmpty();
+        assertThat(storage.fallbackMode).isTrue();
+
+        storage.putIntoCache(createEntries(), null);
+        assertThat(redisson.getBucket("test").get()).isEqualTo("1");
+    }
+
+    @Test
+    public void testBulkError() {
+        redisson.getBucket("test").set("1");
+
+        RedissonStorage storage = createStorage("test", new HashMap<>());
+        try {
+            storage.getFromCache(Arrays.asList("key1", "key2"), null);
+            Assert.fail();
+        } catch (CacheException e) {
+            // skip
+        }
+
+        try {
+            storage.putIntoCache(createEntries(), null);
+            Assert.fail();
+        } catch (CacheException e) {
+            // skip
+        }
+    }
+
+}
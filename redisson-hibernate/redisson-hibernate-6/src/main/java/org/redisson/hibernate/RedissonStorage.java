@@ -18,12 +18,20 @@ package org.redisson.hibernate;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.redisson.Redisson;
+import org.redisson.api.RBatch;
 import org.redisson.api.RFuture;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.RedissonClient;
 import org.redisson.connection.ConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -38,6 +46,8 @@ public class RedissonStorage implements DomainDataStorageAccess {
 
     private final RMapCache<Object, Object> mapCache;
 
+    private final RedissonClient redisson;
+
     private final ConnectionManager connectionManager;
 
     int ttl;
@@ -46,10 +56,11 @@ public class RedissonStorage implements DomainDataStorageAccess {
     boolean fallback;
     volatile boolean fallbackMode;
     
-    public RedissonStorage(RMapCache<Object, Object> mapCache, ConnectionManager connectionManager, Map<String, Object> properties, String defaultKey) {
+    public RedissonStorage(RMapCache<Object, Object> mapCache, RedissonClient redisson, Map<String, Object> properties, String defaultKey) {
         super();
         this.mapCache = mapCache;
-        this.connectionManager = connectionManager;
+        this.redisson = redisson;
+        this.connectionManager = ((Redisson) redisson).getConnectionManager();
         
         String maxEntries = getProperty(properties, mapCache.getName(), defaultKey, RedissonRegionFactory.MAX_ENTRIES_SUFFIX);
         if (maxEntries != null) {
@@ -133,6 +144,85 @@ public class RedissonStorage implements DomainDataStorageAccess {
         }
     }
 
+    /**
+     * Loads multiple entries from cache in a single request.
+     * Used to avoid a round trip per key during batch fetching
+     * of entities or collections.
+     *
+     * @param keys - cache keys
+     * @param session - session
+     * @return cached entries. Absent keys aren't included.
+     */
+    public Map<Object, Object> getFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+        if (fallbackMode || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            if (maxIdle == 0 && size == 0) {
+                RBatch batch = redisson.createBatch();
+                RMapCacheAsync<Object, Object> batchMapCache = batch.getMapCache(mapCache.getName(), mapCache.getCodec());
+                Map<Object, RFuture<Object>> futures = new LinkedHashMap<>(keys.size());
+                for (Object key : keys) {
+                    futures.put(key, batchMapCache.getWithTTLOnlyAsync(key));
+                }
+                batch.execute();
+
+                Map<Object, Object> result = new LinkedHashMap<>(keys.size());
+                for (Map.Entry<Object, RFuture<Object>> entry : futures.entrySet()) {
+                    Object value = entry.getValue().getNow();
+                    if (value != null) {
+                        result.put(entry.getKey(), value);
+                    }
+                }
+                return result;
+            }
+
+            return mapCache.getAll(new HashSet<>(keys));
+        } catch (Exception e) {
+            if (fallback) {
+                ping();
+                logger.error(e.getMessage(), e);
+                return Collections.emptyMap();
+            }
+            throw new CacheException(e);
+        }
+    }
+
+    /**
+     * Stores multiple entries into cache.
+     * Entries are written with a single request if max idle time isn't defined,
+     * otherwise requests are sent in a single batch.
+     *
+     * @param entries - entries to store
+     * @param session - session
+     */
+    public void putIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+        if (fallbackMode || entries.isEmpty()) {
+            return;
+        }
+        try {
+            if (maxIdle == 0) {
+                mapCache.putAll(entries, ttl, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            RBatch batch = redisson.createBatch();
+            RMapCacheAsync<Object, Object> batchMapCache = batch.getMapCache(mapCache.getName(), mapCache.getCodec());
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                batchMapCache.fastPutAsync(entry.getKey(), entry.getValue(),
+                                        ttl, TimeUnit.MILLISECONDS, maxIdle, TimeUnit.MILLISECONDS);
+            }
+            batch.execute();
+        } catch (Exception e) {
+            if (fallback) {
+                ping();
+                logger.error(e.getMessage(), e);
+                return;
+            }
+            throw new CacheException(e);
+        }
+    }
+
     @Override
     public boolean contains(Object key) {
         if (fallbackMode) {
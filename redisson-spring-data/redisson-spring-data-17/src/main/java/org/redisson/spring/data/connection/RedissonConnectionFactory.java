@@ -22,6 +22,7 @@ import org.redisson.RedissonKeys;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.RedisClient;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncService;
 import org.redisson.config.Config;
 import org.redisson.connection.SentinelConnectionManager;
 import org.springframework.beans.factory.DisposableBean;
@@ -50,6 +51,9 @@ public class RedissonConnectionFactory implements RedisConnectionFactory, Initia
 
     private Config config;
     private RedissonClient redisson;
+    private boolean autoPipelining;
+    private int autoPipeliningLimit = 1000;
+    private CommandAsyncService autoPipelineExecutor;
     
     /**
      * Creates factory with default Redisson configuration
@@ -77,6 +81,53 @@ public class RedissonConnectionFactory implements RedisConnectionFactory, Initia
         this.config = config;
     }
 
+    /**
+     * Defines whether commands of concurrent connections
+     * should be sent through shared automatically flushed pipelines.
+     * Explicitly opened pipelines and transactions aren't affected.
+     * <p>
+     * Default is <code>false</code>
+     *
+     * @param autoPipelining - <code>true</code> to enable auto-pipelining
+     */
+    public void setAutoPipelining(boolean autoPipelining) {
+        this.autoPipelining = autoPipelining;
+    }
+
+    public boolean isAutoPipelining() {
+        return autoPipelining;
+    }
+
+    /**
+     * Defines max amount of commands collected into shared pipeline
+     * while previous pipeline is in flight.
+     * <p>
+     * Default is <code>1000</code>
+     *
+     * @param autoPipeliningLimit - max amount of commands
+     */
+    public void setAutoPipeliningLimit(int autoPipeliningLimit) {
+        this.autoPipeliningLimit = autoPipeliningLimit;
+    }
+
+    public int getAutoPipeliningLimit() {
+        return autoPipeliningLimit;
+    }
+
+    private CommandAsyncService getExecutorService() {
+        CommandAsyncService executor = (CommandAsyncService) ((Redisson) redisson).getCommandExecutor();
+        if (!autoPipelining) {
+            return executor;
+        }
+
+        synchronized (this) {
+            if (autoPipelineExecutor == null) {
+                autoPipelineExecutor = new AutoPipelineCommandExecutor(executor, autoPipeliningLimit);
+            }
+            return autoPipelineExecutor;
+        }
+    }
+
     @Override
     public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
         return EXCEPTION_TRANSLATION.translate(ex);
@@ -96,9 +147,9 @@ public class RedissonConnectionFactory implements RedisConnectionFactory, Initia
     @Override
     public RedisConnection getConnection() {
         if (redisson.getConfig().isClusterConfig()) {
-            return new RedissonClusterConnection(redisson);
+            return new RedissonClusterConnection(redisson, getExecutorService());
         }
-        return new RedissonConnection(redisson);
+        return new RedissonConnection(redisson, getExecutorService());
     }
 
     @Override
@@ -106,7 +157,7 @@ public class RedissonConnectionFactory implements RedisConnectionFactory, Initia
         if (!redisson.getConfig().isClusterConfig()) {
             throw new InvalidDataAccessResourceUsageException("Redisson is not in Cluster mode");
         }
-        return new RedissonClusterConnection(redisson);
+        return new RedissonClusterConnection(redisson, getExecutorService());
     }
 
     @Override
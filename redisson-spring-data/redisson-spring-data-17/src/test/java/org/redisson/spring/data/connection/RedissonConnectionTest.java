@@ -1,11 +1,81 @@
 package org.redisson.spring.data.connection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class RedissonConnectionTest extends BaseConnectionTest {
     
+    @Test
+    public void testAutoPipelining() throws Exception {
+        RedissonConnectionFactory factory = new RedissonConnectionFactory(redisson);
+        factory.setAutoPipelining(true);
+        RedisTemplate<String, Long> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(factory);
+        redisTemplate.afterPropertiesSet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            long j = i;
+            futures.add(executor.submit(() -> {
+                redisTemplate.opsForValue().increment("counter", 1);
+                redisTemplate.opsForValue().set("key" + j, j);
+                return redisTemplate.opsForValue().get("key" + j);
+            }));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(10, TimeUnit.SECONDS)).isEqualTo((long) i);
+        }
+        executor.shutdown();
+
+        assertThat(redisTemplate.opsForValue().increment("counter", 0)).isEqualTo(1000L);
+        assertThat(redisTemplate.opsForList().leftPop("empty")).isNull();
+    }
+
+    @Test
+    public void testAutoPipeliningFailedCommand() throws Exception {
+        RedissonConnectionFactory factory = new RedissonConnectionFactory(redisson);
+        factory.setAutoPipelining(true);
+        RedisTemplate<String, Long> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(factory);
+        redisTemplate.afterPropertiesSet();
+
+        redisTemplate.opsForList().leftPush("list", 1L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            long j = i;
+            futures.add(executor.submit(() -> {
+                if (j % 10 == 0) {
+                    return redisTemplate.opsForValue().increment("list", 1);
+                }
+                redisTemplate.opsForValue().set("key" + j, j);
+                return redisTemplate.opsForValue().get("key" + j);
+            }));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            Future<Long> future = futures.get(i);
+            if (i % 10 == 0) {
+                assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+            } else {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo((long) i);
+            }
+        }
+        executor.shutdown();
+    }
+
     @Test
     public void testEcho() {
         assertThat(connection.echo("test".getBytes())).isEqualTo("test".getBytes());
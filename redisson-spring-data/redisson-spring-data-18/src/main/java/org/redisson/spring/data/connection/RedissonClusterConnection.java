@@ -28,6 +28,7 @@ import org.redisson.client.protocol.RedisStrictCommand;
 import org.redisson.client.protocol.decoder.ObjectDecoder;
 import org.redisson.client.protocol.decoder.ObjectListReplayDecoder;
 import org.redisson.client.protocol.decoder.StringMapDataDecoder;
+import org.redisson.command.CommandAsyncService;
 import org.redisson.command.CommandBatchService;
 import org.redisson.connection.MasterSlaveEntry;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
@@ -58,6 +59,10 @@ public class RedissonClusterConnection extends RedissonConnection implements Red
         super(redisson);
     }
 
+    public RedissonClusterConnection(RedissonClient redisson, CommandAsyncService executorService) {
+        super(redisson, executorService);
+    }
+
     @Override
     public Iterable<RedisClusterNode> clusterGetNodes() {
         return read(null, StringCodec.INSTANCE, CLUSTER_NODES);
@@ -85,13 +85,19 @@ public class RedissonConnection extends AbstractRedisConnection {
     private boolean closed;
     protected final Redisson redisson;
     
+    private final CommandAsyncService defaultExecutorService;
     CommandAsyncService executorService;
     private RedissonSubscription subscription;
     
     public RedissonConnection(RedissonClient redisson) {
+        this(redisson, (CommandAsyncService) ((Redisson) redisson).getCommandExecutor());
+    }
+
+    public RedissonConnection(RedissonClient redisson, CommandAsyncService executorService) {
         super();
         this.redisson = (Redisson) redisson;
-        executorService = (CommandAsyncService) this.redisson.getCommandExecutor();
+        this.defaultExecutorService = executorService;
+        this.executorService = executorService;
     }
 
     @Override
@@ -1535,7 +1541,7 @@ public class RedissonConnection extends AbstractRedisConnection {
     }
 
     protected void resetConnection() {
-        executorService = (CommandAsyncService) this.redisson.getCommandExecutor();
+        executorService = defaultExecutorService;
         index = -1;
         indexToRemove.clear();
     }
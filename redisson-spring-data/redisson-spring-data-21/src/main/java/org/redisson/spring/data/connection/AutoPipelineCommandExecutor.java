@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.spring.data.connection;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncService;
+import org.redisson.command.CommandBatchService;
+import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.connection.NodeSource;
+import org.redisson.liveobject.core.RedissonObjectBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Command executor which collects commands of concurrent callers
+ * into shared pipelines. Each node has own pipeline, which is sent
+ * if there is no pipeline in flight to this node
+ * or amount of collected commands reached <code>limit</code>.
+ * <p>
+ * Result of each command is delivered through own future,
+ * so failure of one command doesn't fail other commands.
+ * <p>
+ * Blocking commands, redirected commands and commands bound
+ * to defined node are sent directly.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class AutoPipelineCommandExecutor extends CommandAsyncService {
+
+    private static final class NodePipeline {
+
+        CommandBatchService batch;
+        int size;
+        int inFlight;
+
+    }
+
+    private final CommandAsyncService executor;
+    private final int limit;
+
+    private final Map<MasterSlaveEntry, NodePipeline> pipelines = new ConcurrentHashMap<>();
+
+    public AutoPipelineCommandExecutor(CommandAsyncService executor, int limit) {
+        super(executor.getConnectionManager(), executor.getObjectBuilder(), RedissonObjectBuilder.ReferenceType.DEFAULT);
+        this.executor = executor;
+        this.limit = limit;
+    }
+
+    @Override
+    public <V, R> RFuture<R> async(boolean readOnlyMode, NodeSource source, Codec codec,
+            RedisCommand<V> command, Object[] params, boolean ignoreRedirect, boolean noRetry) {
+        MasterSlaveEntry entry = getEntry(source);
+        if (entry == null
+                || source.getRedisClient() != null
+                    || source.getRedirect() != null
+                        || RedisCommands.BLOCKING_COMMANDS.contains(command)
+                            || RedisCommands.BLOCKING_COMMAND_NAMES.contains(command.getName())) {
+            return executor.async(readOnlyMode, source, codec, command, params, ignoreRedirect, noRetry);
+        }
+
+        NodePipeline pipeline = pipelines.computeIfAbsent(entry, e -> new NodePipeline());
+        RFuture<R> result;
+        CommandBatchService batch = null;
+        synchronized (pipeline) {
+            if (pipeline.batch == null) {
+                pipeline.batch = new CommandBatchService(executor);
+            }
+            result = pipeline.batch.async(readOnlyMode, source, codec, command, params, ignoreRedirect, noRetry);
+            pipeline.size++;
+            if (pipeline.inFlight == 0 || pipeline.size >= limit) {
+                batch = poll(pipeline);
+            }
+        }
+
+        if (batch != null) {
+            send(pipeline, batch);
+        }
+        return result;
+    }
+
+    private MasterSlaveEntry getEntry(NodeSource source) {
+        if (source.getSlot() != null) {
+            return getConnectionManager().getEntry(source.getSlot());
+        }
+        return source.getEntry();
+    }
+
+    private CommandBatchService poll(NodePipeline pipeline) {
+        CommandBatchService batch = pipeline.batch;
+        pipeline.batch = null;
+        pipeline.size = 0;
+        pipeline.inFlight++;
+        return batch;
+    }
+
+    private void send(NodePipeline pipeline, CommandBatchService batch) {
+        // batch contains commands of single node only.
+        // Each command is completed with own reply, batch error
+        // affects only commands which haven't received reply.
+        batch.executeAsync().whenComplete((r, e) -> {
+            CommandBatchService next = null;
+            synchronized (pipeline) {
+                pipeline.inFlight--;
+                if (pipeline.inFlight == 0 && pipeline.size > 0) {
+                    next = poll(pipeline);
+                }
+            }
+
+            if (next != null) {
+                send(pipeline, next);
+            }
+        });
+    }
+
+}
@@ -23,6 +23,7 @@ import org.redisson.RedissonReactive;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.RedisClient;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncService;
 import org.redisson.config.Config;
 import org.redisson.connection.SentinelConnectionManager;
 import org.redisson.reactive.CommandReactiveService;
@@ -51,6 +52,9 @@ public class RedissonConnectionFactory implements RedisConnectionFactory,
     private Config config;
     private RedissonClient redisson;
     private boolean hasOwnRedisson;
+    private boolean autoPipelining;
+    private int autoPipeliningLimit = 1000;
+    private CommandAsyncService autoPipelineExecutor;
 
     /**
      * Creates factory with default Redisson configuration
@@ -80,6 +84,53 @@ public class RedissonConnectionFactory implements RedisConnectionFactory,
         hasOwnRedisson = true;
     }
 
+    /**
+     * Defines whether commands of concurrent connections
+     * should be sent through shared automatically flushed pipelines.
+     * Explicitly opened pipelines and transactions aren't affected.
+     * <p>
+     * Default is <code>false</code>
+     *
+     * @param autoPipelining - <code>true</code> to enable auto-pipelining
+     */
+    public void setAutoPipelining(boolean autoPipelining) {
+        this.autoPipelining = autoPipelining;
+    }
+
+    public boolean isAutoPipelining() {
+        return autoPipelining;
+    }
+
+    /**
+     * Defines max amount of commands collected into shared pipeline
+     * while previous pipeline is in flight.
+     * <p>
+     * Default is <code>1000</code>
+     *
+     * @param autoPipeliningLimit - max amount of commands
+     */
+    public void setAutoPipeliningLimit(int autoPipeliningLimit) {
+        this.autoPipeliningLimit = autoPipeliningLimit;
+    }
+
+    public int getAutoPipeliningLimit() {
+        return autoPipeliningLimit;
+    }
+
+    private CommandAsyncService getExecutorService() {
+        CommandAsyncService executor = (CommandAsyncService) ((Redisson) redisson).getCommandExecutor();
+        if (!autoPipelining) {
+            return executor;
+        }
+
+        synchronized (this) {
+            if (autoPipelineExecutor == null) {
+                autoPipelineExecutor = new AutoPipelineCommandExecutor(executor, autoPipeliningLimit);
+            }
+            return autoPipelineExecutor;
+        }
+    }
+
     @Override
     public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
         return EXCEPTION_TRANSLATION.translate(ex);
@@ -102,9 +153,9 @@ public class RedissonConnectionFactory implements RedisConnectionFactory,
     @Override
     public RedisConnection getConnection() {
         if (redisson.getConfig().isClusterConfig()) {
-            return new RedissonClusterConnection(redisson);
+            return new RedissonClusterConnection(redisson, getExecutorService());
         }
-        return new RedissonConnection(redisson);
+        return new RedissonConnection(redisson, getExecutorService());
     }
 
     @Override
@@ -112,7 +163,7 @@ public class RedissonConnectionFactory implements RedisConnectionFactory,
         if (!redisson.getConfig().isClusterConfig()) {
             throw new InvalidDataAccessResourceUsageException("Redisson is not in Cluster mode");
         }
-        return new RedissonClusterConnection(redisson);
+        return new RedissonClusterConnection(redisson, getExecutorService());
     }
 
     @Override
@@ -31,6 +31,8 @@ import org.redisson.reactive.CommandReactiveExecutor;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisClusterNode;
 
+import io.netty.buffer.Unpooled;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -55,6 +57,24 @@ abstract class RedissonBaseReactive {
         return dst;
     }
     
+    /**
+     * Wraps {@link ByteBuffer} params into Netty buffers without copying.
+     * New wrappers are created per subscription since params are released
+     * once command is completed.
+     */
+    static Object[] wrap(Object[] params) {
+        Object[] result = params;
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] instanceof ByteBuffer) {
+                if (result == params) {
+                    result = params.clone();
+                }
+                result[i] = Unpooled.wrappedBuffer((ByteBuffer) params[i]);
+            }
+        }
+        return result;
+    }
+    
     RFuture<String> toStringFuture(RFuture<Void> f) {
         CompletionStage<String> ff = f.thenApply(r -> "OK");
         return new CompletableFutureWrapper<>(ff);
@@ -79,14 +99,14 @@ abstract class RedissonBaseReactive {
     
     <T> Mono<T> write(byte[] key, Codec codec, RedisCommand<?> command, Object... params) {
         Mono<T> f = executorService.reactive(() -> {
-            return executorService.writeAsync(key, codec, command, params);
+            return executorService.writeAsync(key, codec, command, wrap(params));
         });
         return f.onErrorMap(e -> new RedisSystemException(e.getMessage(), e));
     }
     
     <T> Mono<T> read(byte[] key, Codec codec, RedisCommand<?> command, Object... params) {
         Mono<T> f = executorService.reactive(() -> {
-            return executorService.readAsync(key, codec, command, params);
+            return executorService.readAsync(key, codec, command, wrap(params));
         });
         return f.onErrorMap(e -> new RedisSystemException(e.getMessage(), e));
     }
@@ -76,7 +76,7 @@ public class RedissonReactiveHashCommands extends RedissonBaseReactive implement
             if (command.getFieldValueMap().size() == 1) {
                 Entry<ByteBuffer, ByteBuffer> entry = command.getFieldValueMap().entrySet().iterator().next();
                 byte[] mapKeyBuf = toByteArray(entry.getKey());
-                byte[] mapValueBuf = toByteArray(entry.getValue());
+                ByteBuffer mapValueBuf = entry.getValue();
                 RedisCommand<Boolean> cmd = RedisCommands.HSETNX;
                 if (command.isUpsert()) {
                     cmd = RedisCommands.HSET;
@@ -88,7 +88,7 @@ public class RedissonReactiveHashCommands extends RedissonBaseReactive implement
                 params.add(keyBuf);
                 for (Entry<ByteBuffer, ByteBuffer> entry : command.getFieldValueMap().entrySet()) {
                     params.add(toByteArray(entry.getKey()));
-                    params.add(toByteArray(entry.getValue()));
+                    params.add(entry.getValue());
                 }
 
                 Mono<String> m = write(keyBuf, StringCodec.INSTANCE, HMSET, params.toArray());
@@ -69,7 +69,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             Assert.notNull(command.getValue(), "Value must not be null!");
 
             byte[] key = toByteArray(command.getKey());
-            byte[] value = toByteArray(command.getValue());
+            ByteBuffer value = command.getValue();
 
             Mono<Boolean> m = Mono.empty();
             
@@ -127,7 +127,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             }
 
             byte[] keyBuf = toByteArray(command.getKey());
-            byte[] valueBuf = toByteArray(command.getValue());
+            ByteBuffer valueBuf = command.getValue();
             
             Mono<byte[]> m = write(keyBuf, ByteArrayCodec.INSTANCE, RedisCommands.GETSET, keyBuf, valueBuf);
             return m.map(v -> new ByteBufferResponse<>(command, ByteBuffer.wrap(v)));
@@ -140,7 +140,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
 
             Assert.notNull(coll, "List must not be null!");
             
-            Object[] params = coll.stream().map(buf -> toByteArray(buf)).toArray(Object[]::new);
+            Object[] params = coll.toArray();
 
             Mono<List<byte[]>> m = read(null, ByteArrayCodec.INSTANCE, RedisCommands.MGET, params);
             return m.map(v -> {
@@ -167,7 +167,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             }
 
             byte[] keyBuf = toByteArray(command.getKey());
-            byte[] valueBuf = toByteArray(command.getValue());
+            ByteBuffer valueBuf = command.getValue();
             
             Mono<Boolean> m = write(keyBuf, StringCodec.INSTANCE, RedisCommands.SETNX, keyBuf, valueBuf);
             return m.map(v -> new BooleanResponse<>(command, v));
@@ -188,7 +188,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             }
 
             byte[] keyBuf = toByteArray(command.getKey());
-            byte[] valueBuf = toByteArray(command.getValue());
+            ByteBuffer valueBuf = command.getValue();
             
             Mono<Boolean> m = write(keyBuf, StringCodec.INSTANCE, SETEX, 
                     keyBuf, command.getExpiration().get().getExpirationTimeInSeconds(), valueBuf);
@@ -210,7 +210,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             }
 
             byte[] keyBuf = toByteArray(command.getKey());
-            byte[] valueBuf = toByteArray(command.getValue());
+            ByteBuffer valueBuf = command.getValue();
             
             Mono<String> m = write(keyBuf, StringCodec.INSTANCE, PSETEX, 
                     keyBuf, command.getExpiration().get().getExpirationTimeInMilliseconds(), valueBuf);
@@ -226,20 +226,19 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
 
             Assert.notNull(command.getKeyValuePairs(), "KeyValuePairs must not be null!");
 
-            List<byte[]> params = convert(command);
+            List<Object> params = convert(command);
             
-            Mono<Boolean> m = write(params.get(0), StringCodec.INSTANCE, MSET, params.toArray());
+            Mono<Boolean> m = write((byte[]) params.get(0), StringCodec.INSTANCE, MSET, params.toArray());
             return m.map(v -> new BooleanResponse<>(command, v));
         });
     }
 
-    protected List<byte[]> convert(MSetCommand command) {
-        List<byte[]> params = new ArrayList<byte[]>(command.getKeyValuePairs().size());
+    protected List<Object> convert(MSetCommand command) {
+        List<Object> params = new ArrayList<Object>(command.getKeyValuePairs().size() * 2);
         command.getKeyValuePairs().entrySet().forEach(e -> {
             byte[] keyBuf = toByteArray(e.getKey());
-            byte[] valueBuf = toByteArray(e.getValue());
             params.add(keyBuf);
-            params.add(valueBuf);
+            params.add(e.getValue());
         });
         return params;
     }
@@ -250,9 +249,9 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
 
             Assert.notNull(command.getKeyValuePairs(), "KeyValuePairs must not be null!");
 
-            List<byte[]> params = convert(command);
+            List<Object> params = convert(command);
             
-            Mono<Boolean> m = write(params.get(0), StringCodec.INSTANCE, RedisCommands.MSETNX, params.toArray());
+            Mono<Boolean> m = write((byte[]) params.get(0), StringCodec.INSTANCE, RedisCommands.MSETNX, params.toArray());
             return m.map(v -> new BooleanResponse<>(command, v));
         });
     }
@@ -267,7 +266,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             Assert.notNull(command.getValue(), "Value must not be null!");
 
             byte[] keyBuf = toByteArray(command.getKey());
-            byte[] valueBuf = toByteArray(command.getValue());
+            ByteBuffer valueBuf = command.getValue();
             
             Mono<Long> m = write(keyBuf, StringCodec.INSTANCE, APPEND, keyBuf, valueBuf);
             return m.map(v -> new NumericResponse<>(command, v));
@@ -302,7 +301,7 @@ public class RedissonReactiveStringCommands extends RedissonBaseReactive impleme
             Assert.notNull(command.getOffset(), "Offset must not be null!");
 
             byte[] keyBuf = toByteArray(command.getKey());
-            byte[] valueBuf = toByteArray(command.getValue());
+            ByteBuffer valueBuf = command.getValue();
             Mono<Long> m = write(keyBuf, StringCodec.INSTANCE, SETRANGE, keyBuf, command.getOffset(), valueBuf);
             return m.map(v -> new NumericResponse<>(command, v));
         });
@@ -0,0 +1,48 @@
+package org.redisson.spring.data.connection;
+
+import org.junit.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RedissonReactiveStringCommandsTest extends BaseConnectionTest {
+
+    @Test
+    public void testByteBufferValues() {
+        RedissonConnectionFactory factory = new RedissonConnectionFactory(redisson);
+        ReactiveRedisConnection cc = factory.getReactiveConnection();
+
+        byte[] data = new byte[1024 * 1024];
+        Arrays.fill(data, (byte) 7);
+        ByteBuffer value = ByteBuffer.allocateDirect(data.length);
+        value.put(data).flip();
+
+        assertThat(cc.stringCommands().set(ByteBuffer.wrap("key1".getBytes()), value).block()).isTrue();
+        assertThat(value.remaining()).isEqualTo(data.length);
+        assertThat(cc.stringCommands().get(ByteBuffer.wrap("key1".getBytes())).block()).isEqualTo(ByteBuffer.wrap(data));
+
+        ByteBuffer slice = ByteBuffer.wrap("__value2__".getBytes(), 2, 6);
+        Mono<Boolean> set = cc.stringCommands().set(ByteBuffer.wrap("key2".getBytes()), slice);
+        assertThat(set.block()).isTrue();
+        // params are wrapped again for each subscription
+        assertThat(set.block()).isTrue();
+
+        List<ByteBuffer> values = cc.stringCommands().mGet(Arrays.asList(ByteBuffer.wrap("key1".getBytes()), ByteBuffer.wrap("key2".getBytes()))).block();
+        assertThat(values.get(0)).isEqualTo(ByteBuffer.wrap(data));
+        assertThat(values.get(1)).isEqualTo(ByteBuffer.wrap("value2".getBytes()));
+
+        Map<ByteBuffer, ByteBuffer> map = new HashMap<>();
+        map.put(ByteBuffer.wrap("key3".getBytes()), ByteBuffer.wrap("value3".getBytes()));
+        map.put(ByteBuffer.wrap("key4".getBytes()), ByteBuffer.wrap("value4".getBytes()));
+        assertThat(cc.stringCommands().mSet(map).block()).isTrue();
+        assertThat(cc.stringCommands().get(ByteBuffer.wrap("key4".getBytes())).block()).isEqualTo(ByteBuffer.wrap("value4".getBytes()));
+    }
+
+}
@@ -15,22 +15,53 @@
  */
 package org.redisson;
 
+import io.netty.util.Timeout;
+import org.redisson.connection.ConnectionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 
+ * Schedules transfer tasks of all queues with a single timer.
+ * Tasks are ordered by start time of the head element of each queue
+ * and all due tasks are executed in one timer run.
+ *
  * @author Nikita Koksharov
  *
  */
 public class QueueTransferService {
 
+    private static final class IndexEntry implements Comparable<IndexEntry> {
+
+        private final QueueTransferTask task;
+        private final long time;
+
+        IndexEntry(QueueTransferTask task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(IndexEntry o) {
+            return Long.compare(time, o.time);
+        }
+
+    }
+
     private final ConcurrentMap<String, QueueTransferTask> tasks = new ConcurrentHashMap<>();
-    
+
+    private final PriorityQueue<IndexEntry> index = new PriorityQueue<>();
+    private Timeout timeout;
+    private long timeoutTime;
+
     public synchronized void schedule(String name, QueueTransferTask task) {
         QueueTransferTask oldTask = tasks.putIfAbsent(name, task);
         if (oldTask == null) {
-            task.start();
+            task.start(this);
         } else {
             oldTask.incUsage();
         }
@@ -45,7 +76,69 @@ public class QueueTransferService {
             }
         }
     }
-    
-    
+
+    void scheduleTask(QueueTransferTask task, long startTime) {
+        if (startTime - System.currentTimeMillis() <= 10) {
+            task.pushTask();
+            return;
+        }
+
+        synchronized (index) {
+            if (task.getScheduledTime() != 0 && task.getScheduledTime() <= startTime) {
+                return;
+            }
+            task.setScheduledTime(startTime);
+            index.add(new IndexEntry(task, startTime));
+            scheduleTimer(task.getConnectionManager());
+        }
+    }
+
+    private void scheduleTimer(ConnectionManager connectionManager) {
+        IndexEntry head = index.peek();
+        if (head == null) {
+            return;
+        }
+        if (timeout != null && !timeout.isExpired() && timeoutTime <= head.time) {
+            return;
+        }
+        if (timeout != null) {
+            timeout.cancel();
+        }
+
+        long delay = Math.max(0, head.time - System.currentTimeMillis());
+        timeoutTime = head.time;
+        timeout = connectionManager.newTimeout(t -> runDueTasks(connectionManager), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void runDueTasks(ConnectionManager connectionManager) {
+        if (connectionManager.isShuttingDown()) {
+            return;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        List<QueueTransferTask> dueTasks = new ArrayList<>();
+        synchronized (index) {
+            timeout = null;
+            while (true) {
+                IndexEntry head = index.peek();
+                if (head == null || head.time - currentTime > 10) {
+                    break;
+                }
+                index.poll();
+                // entry is stale if task was rescheduled to earlier time or stopped
+                if (head.task.getScheduledTime() == head.time) {
+                    head.task.setScheduledTime(0);
+                    if (head.task.isActive()) {
+                        dueTasks.add(head.task);
+                    }
+                }
+            }
+            scheduleTimer(connectionManager);
+        }
+
+        for (QueueTransferTask task : dueTasks) {
+            task.pushTask();
+        }
+    }
 
 }
@@ -15,9 +15,6 @@
  */
 package org.redisson;
 
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
-
 import org.redisson.api.RFuture;
 import org.redisson.api.RTopic;
 import org.redisson.api.listener.BaseStatusListener;
@@ -26,9 +23,6 @@ import org.redisson.connection.ConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.util.Timeout;
-import io.netty.util.TimerTask;
-
 /**
  * 
  * @author Nikita Koksharov
@@ -38,30 +32,11 @@ public abstract class QueueTransferTask {
     
     private static final Logger log = LoggerFactory.getLogger(QueueTransferTask.class);
 
-    public static class TimeoutTask {
-        
-        private final long startTime;
-        private final Timeout task;
-        
-        public TimeoutTask(long startTime, Timeout task) {
-            super();
-            this.startTime = startTime;
-            this.task = task;
-        }
-        
-        public long getStartTime() {
-            return startTime;
-        }
-        
-        public Timeout getTask() {
-            return task;
-        }
-        
-    }
-    
     private int usage = 1;
-    private final AtomicReference<TimeoutTask> lastTimeout = new AtomicReference<TimeoutTask>();
     private final ConnectionManager connectionManager;
+    private QueueTransferService service;
+    private volatile boolean active;
+    private long scheduledTime;
     
     public QueueTransferTask(ConnectionManager connectionManager) {
         super();
@@ -80,7 +55,10 @@ public abstract class QueueTransferTask {
     private int messageListenerId;
     private int statusListenerId;
     
-    public void start() {
+    public void start(QueueTransferService service) {
+        this.service = service;
+        active = true;
+
         RTopic schedulerTopic = getTopic();
         statusListenerId = schedulerTopic.addListener(new BaseStatusListener() {
             @Override
@@ -98,47 +76,42 @@ public abstract class QueueTransferTask {
     }
     
     public void stop() {
+        active = false;
+
         RTopic schedulerTopic = getTopic();
         schedulerTopic.removeListener(messageListenerId);
         schedulerTopic.removeListener(statusListenerId);
     }
 
-    private void scheduleTask(final Long startTime) {
-        TimeoutTask oldTimeout = lastTimeout.get();
-        if (startTime == null) {
+    ConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    long getScheduledTime() {
+        return scheduledTime;
+    }
+
+    void setScheduledTime(long scheduledTime) {
+        this.scheduledTime = scheduledTime;
+    }
+
+    private void scheduleTask(Long startTime) {
+        if (startTime == null || !active) {
             return;
         }
         
-        if (oldTimeout != null) {
-            oldTimeout.getTask().cancel();
-        }
-        
-        long delay = startTime - System.currentTimeMillis();
-        if (delay > 10) {
-            Timeout timeout = connectionManager.newTimeout(new TimerTask() {                    
-                @Override
-                public void run(Timeout timeout) throws Exception {
-                    pushTask();
-                    
-                    TimeoutTask currentTimeout = lastTimeout.get();
-                    if (currentTimeout.getTask() == timeout) {
-                        lastTimeout.compareAndSet(currentTimeout, null);
-                    }
-                }
-            }, delay, TimeUnit.MILLISECONDS);
-            if (!lastTimeout.compareAndSet(oldTimeout, new TimeoutTask(startTime, timeout))) {
-                timeout.cancel();
-            }
-        } else {
-            pushTask();
-        }
+        service.scheduleTask(this, startTime);
     }
     
     protected abstract RTopic getTopic();
     
     protected abstract RFuture<Long> pushTaskAsync();
     
-    private void pushTask() {
+    void pushTask() {
         RFuture<Long> startTimeFuture = pushTaskAsync();
         startTimeFuture.whenComplete((res, e) -> {
             if (e != null) {
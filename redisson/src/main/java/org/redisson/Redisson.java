@@ -332,6 +332,16 @@ public class Redisson implements RedissonClient {
         return new RedissonMapCache<K, V>(codec, evictionScheduler, commandExecutor, name, this, options, writeBehindService);
     }
 
+    @Override
+    public <K, V> RMapCacheNative<K, V> getMapCacheNative(String name) {
+        return new RedissonMapCacheNative<>(commandExecutor, name, this, null, null);
+    }
+
+    @Override
+    public <K, V> RMapCacheNative<K, V> getMapCacheNative(String name, Codec codec) {
+        return new RedissonMapCacheNative<>(codec, commandExecutor, name, this, null, null);
+    }
+
     @Override
     public <K, V> RMap<K, V> getMap(String name, Codec codec) {
         return new RedissonMap<K, V>(codec, commandExecutor, name, this, null, null);
@@ -37,6 +37,8 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Base class for implementing distributed locks
@@ -48,6 +50,8 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
 
     public static class ExpirationEntry {
 
+        // ReentrantLock doesn't pin carrier thread of virtual thread
+        private final Lock lock = new ReentrantLock();
         private final Map<Long, Integer> threadIds = new LinkedHashMap<>();
         private volatile Timeout timeout;
 
@@ -55,33 +59,53 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
             super();
         }
 
-        public synchronized void addThreadId(long threadId) {
-            threadIds.compute(threadId, (t, counter) -> {
-                counter = Optional.ofNullable(counter).orElse(0);
-                counter++;
-                return counter;
-            });
-        }
-        public synchronized boolean hasNoThreads() {
-            return threadIds.isEmpty();
+        public void addThreadId(long threadId) {
+            lock.lock();
+            try {
+                threadIds.compute(threadId, (t, counter) -> {
+                    counter = Optional.ofNullable(counter).orElse(0);
+                    counter++;
+                    return counter;
+                });
+            } finally {
+                lock.unlock();
+            }
         }
-        public synchronized Long getFirstThreadId() {
-            if (threadIds.isEmpty()) {
-                return null;
+        public boolean hasNoThreads() {
+            lock.lock();
+            try {
+                return threadIds.isEmpty();
+            } finally {
+                lock.unlock();
             }
-            return threadIds.keySet().iterator().next();
         }
-        public synchronized void removeThreadId(long threadId) {
-            threadIds.compute(threadId, (t, counter) -> {
-                if (counter == null) {
-                    return null;
-                }
-                counter--;
-                if (counter == 0) {
+        public Long getFirstThreadId() {
+            lock.lock();
+            try {
+                if (threadIds.isEmpty()) {
                     return null;
                 }
-                return counter;
-            });
+                return threadIds.keySet().iterator().next();
+            } finally {
+                lock.unlock();
+            }
+        }
+        public void removeThreadId(long threadId) {
+            lock.lock();
+            try {
+                threadIds.compute(threadId, (t, counter) -> {
+                    if (counter == null) {
+                        return null;
+                    }
+                    counter--;
+                    if (counter == 0) {
+                        return null;
+                    }
+                    return counter;
+                });
+            } finally {
+                lock.unlock();
+            }
         }
 
         public void setTimeout(Timeout timeout) {
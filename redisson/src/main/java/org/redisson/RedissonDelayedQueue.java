@@ -59,11 +59,13 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
                 return commandExecutor.evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
                         "local expiredValues = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
                       + "if #expiredValues > 0 then "
+                          + "local values = {}; "
                           + "for i, v in ipairs(expiredValues) do "
                               + "local randomId, value = struct.unpack('dLc0', v);"
-                              + "redis.call('rpush', KEYS[1], value);"
+                              + "table.insert(values, value);"
                               + "redis.call('lrem', KEYS[3], 1, v);"
                           + "end; "
+                          + "redis.call('rpush', KEYS[1], unpack(values));"
                           + "redis.call('zrem', KEYS[2], unpack(expiredValues));"
                       + "end; "
                         // get startTime from scheduler queue head task
@@ -73,7 +75,7 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
                       + "end "
                       + "return nil;",
                       Arrays.asList(getRawName(), timeoutSetName, queueName),
-                      System.currentTimeMillis(), 100);
+                      System.currentTimeMillis(), 1000);
             }
             
             @Override
@@ -58,6 +58,11 @@ public class RedissonFairLock extends RedissonLock implements RLock {
         timeoutSetName = prefixName("redisson_lock_timeout", name);
     }
 
+    @Override
+    protected boolean isSharedChannelSupported() {
+        return false;
+    }
+
     @Override
     protected CompletableFuture<RedissonLockEntry> subscribe(long threadId) {
         return pubSub.subscribe(getEntryName() + ":" + threadId,
@@ -17,6 +17,8 @@ package org.redisson;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.redisson.api.GeoEntry;
 import org.redisson.api.GeoOrder;
@@ -41,6 +43,7 @@ import org.redisson.client.protocol.decoder.MultiDecoder;
 import org.redisson.client.protocol.decoder.ObjectMapReplayDecoder2;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.connection.decoder.MapGetAllDecoder;
+import org.redisson.misc.CompletableFutureWrapper;
 
 /**
  * Geospatial items holder
@@ -120,6 +123,40 @@ public class RedissonGeo<V> extends RedissonScoredSortedSet<V> implements RGeo<V
         return commandExecutor.writeAsync(getRawName(), StringCodec.INSTANCE, RedisCommands.GEOADD, params.toArray());
     }
 
+    @Override
+    public long addAll(Collection<GeoEntry> entries, int chunkSize) {
+        return get(addAllAsync(entries, chunkSize));
+    }
+
+    @Override
+    public RFuture<Long> addAllAsync(Collection<GeoEntry> entries, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize should be greater than 0");
+        }
+        if (entries.isEmpty()) {
+            return new CompletableFutureWrapper<>(0L);
+        }
+
+        List<CompletableFuture<Long>> futures = new ArrayList<>(entries.size() / chunkSize + 1);
+        List<GeoEntry> chunk = new ArrayList<>(chunkSize);
+        for (GeoEntry entry : entries) {
+            chunk.add(entry);
+            if (chunk.size() == chunkSize) {
+                futures.add(addAsync("", chunk.toArray(new GeoEntry[0])).toCompletableFuture());
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            futures.add(addAsync("", chunk.toArray(new GeoEntry[0])).toCompletableFuture());
+        }
+
+        CompletableFuture<Void> f = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        CompletableFuture<Long> result = f.thenApply(r -> {
+            return futures.stream().mapToLong(CompletableFuture::join).sum();
+        });
+        return new CompletableFutureWrapper<>(result);
+    }
+
     @Override
     public Boolean addIfExists(double longitude, double latitude, V member) {
         return get(addIfExistsAsync(longitude, latitude, member));
@@ -217,6 +254,81 @@ public class RedissonGeo<V> extends RedissonScoredSortedSet<V> implements RGeo<V
         return commandExecutor.readAsync(getRawName(), StringCodec.INSTANCE, command, params.toArray());
     }
 
+    @Override
+    public List<Long> radiusCount(List<GeoPosition> centers, double radius, GeoUnit geoUnit) {
+        return get(radiusCountAsync(centers, radius, geoUnit));
+    }
+
+    @Override
+    public RFuture<List<Long>> radiusCountAsync(List<GeoPosition> centers, double radius, GeoUnit geoUnit) {
+        if (centers.isEmpty()) {
+            return new CompletableFutureWrapper<>(Collections.emptyList());
+        }
+
+        List<Object> params = new ArrayList<>(centers.size() * 2 + 2);
+        params.add(radius);
+        params.add(geoUnit);
+        for (GeoPosition center : centers) {
+            params.add(convert(center.getLongitude()));
+            params.add(convert(center.getLatitude()));
+        }
+
+        return commandExecutor.evalReadAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local result = {}; "
+                + "for i = 3, #ARGV, 2 do "
+                    + "local members = redis.call('georadius_ro', KEYS[1], ARGV[i], ARGV[i+1], ARGV[1], ARGV[2]); "
+                    + "table.insert(result, #members); "
+                + "end; "
+                + "return result;",
+                Collections.singletonList(getRawName()), params.toArray());
+    }
+
+    @Override
+    public List<List<V>> nearest(List<GeoPosition> points, double radius, GeoUnit geoUnit, int count) {
+        return get(nearestAsync(points, radius, geoUnit, count));
+    }
+
+    @Override
+    public RFuture<List<List<V>>> nearestAsync(List<GeoPosition> points, double radius, GeoUnit geoUnit, int count) {
+        if (points.isEmpty()) {
+            return new CompletableFutureWrapper<>(Collections.emptyList());
+        }
+
+        List<Object> params = new ArrayList<>(points.size() * 2 + 3);
+        params.add(radius);
+        params.add(geoUnit);
+        params.add(count);
+        for (GeoPosition point : points) {
+            params.add(convert(point.getLongitude()));
+            params.add(convert(point.getLatitude()));
+        }
+
+        // result is flattened as amount of members followed by members for each point
+        RFuture<List<Object>> f = commandExecutor.evalReadAsync(getRawName(), codec, RedisCommands.EVAL_LIST,
+                "local result = {}; "
+                + "for i = 4, #ARGV, 2 do "
+                    + "local members = redis.call('georadius_ro', KEYS[1], ARGV[i], ARGV[i+1], ARGV[1], ARGV[2], 'COUNT', ARGV[3], 'ASC'); "
+                    + "table.insert(result, #members); "
+                    + "for j, v in ipairs(members) do "
+                        + "table.insert(result, v); "
+                    + "end; "
+                + "end; "
+                + "return result;",
+                Collections.singletonList(getRawName()), params.toArray());
+        CompletionStage<List<List<V>>> result = f.thenApply(res -> {
+            List<List<V>> list = new ArrayList<>(points.size());
+            int index = 0;
+            while (index < res.size()) {
+                int size = ((Long) res.get(index)).intValue();
+                index++;
+                list.add((List<V>) new ArrayList<>(res.subList(index, index + size)));
+                index += size;
+            }
+            return list;
+        });
+        return new CompletableFutureWrapper<>(result);
+    }
+
     @Override
     public List<V> search(GeoSearchArgs args) {
         return get(searchAsync(args));
@@ -129,6 +129,26 @@ public class RedissonLiveObjectService implements RLiveObjectService {
         return null;
     }
 
+    @Override
+    public <T> T getCached(Class<T> entityClass, Object id, String... fieldNames) {
+        T proxied = createLiveObject(entityClass, id);
+
+        Set<String> names = new HashSet<>(Arrays.asList(fieldNames));
+        if (names.isEmpty()) {
+            String idFieldName = getRIdFieldName(entityClass);
+            for (FieldDescription.InDefinedShape field : Introspectior.getAllFields(entityClass)) {
+                if (field.isStatic()
+                        || field.isTransient()
+                        || field.getName().equals(idFieldName)) {
+                    continue;
+                }
+                names.add(field.getName());
+            }
+        }
+        ClassUtils.setField(proxied, "liveObjectCache", new LiveObjectCache(names));
+        return proxied;
+    }
+
     @Override
     public <T> Collection<T> find(Class<T> entityClass, Condition condition) {
         Set<Object> ids = seachEngine.find(entityClass, condition);
@@ -138,6 +158,15 @@ public class RedissonLiveObjectService implements RLiveObjectService {
                     .collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Collection<T> find(Class<T> entityClass, Condition condition, int offset, int limit) {
+        List<Object> ids = seachEngine.find(entityClass, condition, offset, limit);
+
+        return ids.stream()
+                    .map(id -> createLiveObject(entityClass, id))
+                    .collect(Collectors.toList());
+    }
+
     @Override
     public long count(Class<?> entityClass, Condition condition) {
         Set<Object> ids = seachEngine.find(entityClass, condition);
@@ -792,7 +821,8 @@ public class RedissonLiveObjectService implements RLiveObjectService {
                 ElementMatchers.anyOf(RLiveObject.class, RExpirable.class, RObject.class))
                 .and(ElementMatchers.isGetter().or(ElementMatchers.isSetter())
                         .or(ElementMatchers.named("isPhantom"))
-                        .or(ElementMatchers.named("delete"))))
+                        .or(ElementMatchers.named("delete"))
+                        .or(ElementMatchers.named("flush"))))
                 .intercept(MethodDelegation.withDefaultConfiguration()
                         .withBinders(FieldProxy.Binder
                                 .install(LiveObjectInterceptor.Getter.class,
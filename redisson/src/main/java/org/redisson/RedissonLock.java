@@ -23,9 +23,12 @@ import org.redisson.client.codec.LongCodec;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.client.protocol.RedisStrictCommand;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.connection.CRC16;
+import org.redisson.connection.MasterSlaveConnectionManager;
 import org.redisson.misc.CompletableFutureWrapper;
 import org.redisson.pubsub.LockPubSub;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.*;
@@ -62,6 +65,39 @@ public class RedissonLock extends RedissonBaseLock {
         return prefixName("redisson_lock__channel", getRawName());
     }
 
+    /**
+     * Returns shared channel name used to deliver unlock messages
+     * or empty string if channel per lock is used.
+     *
+     * @return channel name
+     */
+    String getSharedChannelName() {
+        int channels = commandExecutor.getConnectionManager().getCfg().getLockNotificationChannels();
+        if (channels <= 0 || !isSharedChannelSupported()) {
+            return "";
+        }
+        int slot = CRC16.crc16(getRawName().getBytes(StandardCharsets.UTF_8)) % MasterSlaveConnectionManager.MAX_SLOT;
+        return "redisson_lock__shared_channel:" + (slot * channels / MasterSlaveConnectionManager.MAX_SLOT);
+    }
+
+    /**
+     * Defines whether unlock messages may be delivered through shared channel.
+     * Implementations with own unlock scripts should return <code>false</code>.
+     *
+     * @return <code>true</code> if shared channel supported
+     */
+    protected boolean isSharedChannelSupported() {
+        return true;
+    }
+
+    String publishUnlockScript(String messageArg, String sharedChannelArg) {
+        return "if " + sharedChannelArg + " == '' then " +
+                    "redis.call('publish', KEYS[2], " + messageArg + "); " +
+                "else " +
+                    "redis.call('publish', " + sharedChannelArg + ", KEYS[2] .. ':' .. " + messageArg + "); " +
+                "end; ";
+    }
+
     @Override
     public void lock() {
         try {
@@ -288,10 +324,18 @@ public class RedissonLock extends RedissonBaseLock {
     }
 
     protected CompletableFuture<RedissonLockEntry> subscribe(long threadId) {
+        String sharedChannelName = getSharedChannelName();
+        if (!sharedChannelName.isEmpty()) {
+            return pubSub.subscribeShared(getChannelName(), sharedChannelName);
+        }
         return pubSub.subscribe(getEntryName(), getChannelName());
     }
 
     protected void unsubscribe(RedissonLockEntry entry, long threadId) {
+        if (!getSharedChannelName().isEmpty()) {
+            pubSub.unsubscribeShared(entry, getChannelName());
+            return;
+        }
         pubSub.unsubscribe(entry, getEntryName(), getChannelName());
     }
 
@@ -333,12 +377,12 @@ public class RedissonLock extends RedissonBaseLock {
         cancelExpirationRenewal(null);
         return evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if (redis.call('del', KEYS[1]) == 1) then "
-                        + "redis.call('publish', KEYS[2], ARGV[1]); "
+                        + publishUnlockScript("ARGV[1]", "ARGV[2]")
                         + "return 1 "
                         + "else "
                         + "return 0 "
                         + "end",
-                Arrays.asList(getRawName(), getChannelName()), LockPubSub.UNLOCK_MESSAGE);
+                Arrays.asList(getRawName(), getChannelName()), LockPubSub.UNLOCK_MESSAGE, getSharedChannelName());
     }
 
     protected RFuture<Boolean> unlockInnerAsync(long threadId) {
@@ -352,11 +396,12 @@ public class RedissonLock extends RedissonBaseLock {
                         "return 0; " +
                         "else " +
                         "redis.call('del', KEYS[1]); " +
-                        "redis.call('publish', KEYS[2], ARGV[1]); " +
+                        publishUnlockScript("ARGV[1]", "ARGV[4]") +
                         "return 1; " +
                         "end; " +
                         "return nil;",
-                Arrays.asList(getRawName(), getChannelName()), LockPubSub.UNLOCK_MESSAGE, internalLockLeaseTime, getLockName(threadId));
+                Arrays.asList(getRawName(), getChannelName()), LockPubSub.UNLOCK_MESSAGE, internalLockLeaseTime, getLockName(threadId),
+                getSharedChannelName());
     }
 
     @Override
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import org.redisson.api.MapOptions;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMapCacheNative;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map-based cache with ability to set TTL for each entry.
+ * Uses native hash field expiration commands available since Redis 7.4,
+ * so entries are stored as is and reads are plain hash commands.
+ * Expired entries are deleted by Redis and no eviction task is scheduled.
+ * Requires Redis 7.4+.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public class RedissonMapCacheNative<K, V> extends RedissonMap<K, V> implements RMapCacheNative<K, V> {
+
+    public RedissonMapCacheNative(CommandAsyncExecutor commandExecutor, String name, RedissonClient redisson,
+                                  MapOptions<K, V> options, WriteBehindService writeBehindService) {
+        super(commandExecutor, name, redisson, options, writeBehindService);
+    }
+
+    public RedissonMapCacheNative(Codec codec, CommandAsyncExecutor commandExecutor, String name, RedissonClient redisson,
+                                  MapOptions<K, V> options, WriteBehindService writeBehindService) {
+        super(codec, commandExecutor, name, redisson, options, writeBehindService);
+    }
+
+    private long toMillis(long ttl, TimeUnit unit) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl can't be negative");
+        }
+        if (ttl > 0 && unit == null) {
+            throw new NullPointerException("ttlUnit param can't be null");
+        }
+        if (ttl == 0) {
+            return 0;
+        }
+        return Math.max(1, unit.toMillis(ttl));
+    }
+
+    @Override
+    public V put(K key, V value, long ttl, TimeUnit unit) {
+        return get(putAsync(key, value, ttl, unit));
+    }
+
+    @Override
+    public RFuture<V> putAsync(K key, V value, long ttl, TimeUnit unit) {
+        checkKey(key);
+        checkValue(value);
+
+        long ttlMillis = toMillis(ttl, unit);
+        if (ttlMillis == 0) {
+            return putAsync(key, value);
+        }
+
+        String name = getRawName(key);
+        RFuture<V> future = commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_MAP_VALUE,
+                "local v = redis.call('hget', KEYS[1], ARGV[2]); "
+              + "redis.call('hset', KEYS[1], ARGV[2], ARGV[3]); "
+              + "redis.call('hpexpire', KEYS[1], ARGV[1], 'fields', 1, ARGV[2]); "
+              + "return v;",
+                Collections.<Object>singletonList(name),
+                ttlMillis, encodeMapKey(key), encodeMapValue(value));
+        if (hasNoWriter()) {
+            return future;
+        }
+
+        return mapWriterFuture(future, new MapWriterTask.Add(key, value));
+    }
+
+    @Override
+    public boolean fastPut(K key, V value, long ttl, TimeUnit ttlUnit) {
+        return get(fastPutAsync(key, value, ttl, ttlUnit));
+    }
+
+    @Override
+    public RFuture<Boolean> fastPutAsync(K key, V value, long ttl, TimeUnit unit) {
+        checkKey(key);
+        checkValue(value);
+
+        long ttlMillis = toMillis(ttl, unit);
+        if (ttlMillis == 0) {
+            return fastPutAsync(key, value);
+        }
+
+        String name = getRawName(key);
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_BOOLEAN,
+                "local added = redis.call('hset', KEYS[1], ARGV[2], ARGV[3]); "
+              + "redis.call('hpexpire', KEYS[1], ARGV[1], 'fields', 1, ARGV[2]); "
+              + "return added;",
+                Collections.<Object>singletonList(name),
+                ttlMillis, encodeMapKey(key), encodeMapValue(value));
+        if (hasNoWriter()) {
+            return future;
+        }
+
+        return mapWriterFuture(future, new MapWriterTask.Add(key, value));
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long ttl, TimeUnit ttlUnit) {
+        return get(putIfAbsentAsync(key, value, ttl, ttlUnit));
+    }
+
+    @Override
+    public RFuture<V> putIfAbsentAsync(K key, V value, long ttl, TimeUnit unit) {
+        checkKey(key);
+        checkValue(value);
+
+        long ttlMillis = toMillis(ttl, unit);
+        if (ttlMillis == 0) {
+            return putIfAbsentAsync(key, value);
+        }
+
+        String name = getRawName(key);
+        RFuture<V> future = commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_MAP_VALUE,
+                "local v = redis.call('hget', KEYS[1], ARGV[2]); "
+              + "if v ~= false then "
+                  + "return v; "
+              + "end; "
+              + "redis.call('hset', KEYS[1], ARGV[2], ARGV[3]); "
+              + "redis.call('hpexpire', KEYS[1], ARGV[1], 'fields', 1, ARGV[2]); "
+              + "return nil;",
+                Collections.<Object>singletonList(name),
+                ttlMillis, encodeMapKey(key), encodeMapValue(value));
+        if (hasNoWriter()) {
+            return future;
+        }
+
+        return mapWriterFuture(future, new MapWriterTask.Add(key, value), Objects::isNull);
+    }
+
+    @Override
+    public boolean fastPutIfAbsent(K key, V value, long ttl, TimeUnit ttlUnit) {
+        return get(fastPutIfAbsentAsync(key, value, ttl, ttlUnit));
+    }
+
+    @Override
+    public RFuture<Boolean> fastPutIfAbsentAsync(K key, V value, long ttl, TimeUnit ttlUnit) {
+        checkKey(key);
+        checkValue(value);
+
+        long ttlMillis = toMillis(ttl, ttlUnit);
+        if (ttlMillis == 0) {
+            return fastPutIfAbsentAsync(key, value);
+        }
+
+        String name = getRawName(key);
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('hsetnx', KEYS[1], ARGV[2], ARGV[3]) == 0 then "
+                  + "return 0; "
+              + "end; "
+              + "redis.call('hpexpire', KEYS[1], ARGV[1], 'fields', 1, ARGV[2]); "
+              + "return 1;",
+                Collections.<Object>singletonList(name),
+                ttlMillis, encodeMapKey(key), encodeMapValue(value));
+        if (hasNoWriter()) {
+            return future;
+        }
+
+        return mapWriterFuture(future, new MapWriterTask.Add(key, value), r -> r);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map, long ttl, TimeUnit ttlUnit) {
+        get(putAllAsync(map, ttl, ttlUnit));
+    }
+
+    @Override
+    public RFuture<Void> putAllAsync(Map<? extends K, ? extends V> map, long ttl, TimeUnit ttlUnit) {
+        if (map.isEmpty()) {
+            return new CompletableFutureWrapper<>((Void) null);
+        }
+
+        long ttlMillis = toMillis(ttl, ttlUnit);
+        if (ttlMillis == 0) {
+            return putAllAsync(map);
+        }
+
+        List<Object> params = new ArrayList<>(map.size() * 2 + 1);
+        params.add(ttlMillis);
+        for (Map.Entry<? extends K, ? extends V> t : map.entrySet()) {
+            checkKey(t.getKey());
+            checkValue(t.getValue());
+
+            params.add(encodeMapKey(t.getKey()));
+            params.add(encodeMapValue(t.getValue()));
+        }
+
+        RFuture<Void> future = commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_VOID,
+                "for i = 2, #ARGV, 5000 do "
+                  + "local fields = {}; "
+                  + "for j = i, math.min(i + 4999, #ARGV), 2 do "
+                      + "table.insert(fields, ARGV[j]); "
+                  + "end; "
+                  + "redis.call('hset', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV))); "
+                  + "redis.call('hpexpire', KEYS[1], ARGV[1], 'fields', #fields, unpack(fields)); "
+              + "end; ",
+                Collections.<Object>singletonList(getRawName()), params.toArray());
+        if (hasNoWriter()) {
+            return future;
+        }
+
+        return mapWriterFuture(future, new MapWriterTask.Add(map));
+    }
+
+    @Override
+    public long remainTimeToLive(K key) {
+        return get(remainTimeToLiveAsync(key));
+    }
+
+    @Override
+    public RFuture<Long> remainTimeToLiveAsync(K key) {
+        checkKey(key);
+
+        String name = getRawName(key);
+        return commandExecutor.evalReadAsync(name, codec, RedisCommands.EVAL_LONG,
+                "local ttl = redis.call('hpttl', KEYS[1], 'fields', 1, ARGV[1]); "
+              + "return ttl[1];",
+                Arrays.<Object>asList(name), encodeMapKey(key));
+    }
+
+}
@@ -74,7 +74,7 @@ public class RedissonPriorityBlockingQueue<V> extends RedissonPriorityQueue<V> i
     protected <T> void takeAsync(CompletableFuture<V> result, long delay, long timeoutInMicro, RedisCommand<T> command, Object... params) {
         long start = System.currentTimeMillis();
         commandExecutor.getConnectionManager().getGroup().schedule(() -> {
-            RFuture<V> future = wrapLockedAsync(command, params);
+            RFuture<V> future = commandExecutor.writeAsync(getRawName(), codec, command, params);
             future.whenComplete((res, e) -> {
                     if (e != null && !(e instanceof RedisConnectionException)) {
                         result.completeExceptionally(e);
@@ -188,13 +188,7 @@ public class RedissonPriorityBlockingQueue<V> extends RedissonPriorityQueue<V> i
 
     @Override
     public int drainTo(Collection<? super V> c) {
-        lock.lock();
-        
-        try {
-            return get(drainToAsync(c));
-        } finally {
-            lock.unlock();
-        }
+        return get(drainToAsync(c));
     }
 
     public RFuture<Integer> drainToAsync(Collection<? super V> c) {
@@ -214,13 +208,7 @@ public class RedissonPriorityBlockingQueue<V> extends RedissonPriorityQueue<V> i
             return 0;
         }
 
-        lock.lock();
-        
-        try {
-            return get(drainToAsync(c, maxElements));
-        } finally {
-            lock.unlock();
-        }
+        return get(drainToAsync(c, maxElements));
     }
 
     public RFuture<Integer> drainToAsync(Collection<? super V> c, int maxElements) {
@@ -240,24 +228,6 @@ public class RedissonPriorityBlockingQueue<V> extends RedissonPriorityQueue<V> i
         throw new UnsupportedOperationException("use offer method");
     }
 
-    @Override
-    public RFuture<List<V>> pollAsync(int limit) {
-        return wrapLockedAsync(() -> {
-            return commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_LIST,
-                       "local result = {};"
-                     + "for i = 1, ARGV[1], 1 do " +
-                           "local value = redis.call('lpop', KEYS[1]);" +
-                           "if value ~= false then " +
-                               "table.insert(result, value);" +
-                           "else " +
-                               "return result;" +
-                           "end;" +
-                       "end; " +
-                       "return result;",
-                    Collections.singletonList(getRawName()), limit);
-        });
-    }
-
     @Override
     public RFuture<V> pollFromAnyAsync(long timeout, TimeUnit unit, String... queueNames) {
         throw new UnsupportedOperationException("use poll method");
@@ -208,7 +208,7 @@ public class RedissonPriorityDeque<V> extends RedissonPriorityQueue<V> implement
     }
 
     public RFuture<V> pollLastAsync() {
-        return wrapLockedAsync(RedisCommands.RPOP, getRawName());
+        return commandExecutor.writeAsync(getRawName(), codec, RedisCommands.RPOP, getRawName());
     }
 
     @Override
@@ -235,13 +235,6 @@ public class RedissonPriorityDeque<V> extends RedissonPriorityQueue<V> implement
         throw new UnsupportedOperationException("use add or put method");
     }
 
-    @Override
-    public RFuture<Boolean> removeAsync(Object o, int count) {
-        return wrapLockedAsync(() -> {
-            return super.removeAsync(o, count);
-        });
-    }
-
     @Override
     public RFuture<Boolean> removeFirstOccurrenceAsync(Object o) {
         return removeAsync(o, 1);
@@ -303,20 +296,18 @@ public class RedissonPriorityDeque<V> extends RedissonPriorityQueue<V> implement
 
     @Override
     public RFuture<List<V>> pollLastAsync(int limit) {
-        return wrapLockedAsync(() -> {
-            return commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_LIST,
-                      "local result = {};"
-                          + "for i = 1, ARGV[1], 1 do " +
-                                "local value = redis.call('rpop', KEYS[1]);" +
-                                "if value ~= false then " +
-                                    "table.insert(result, value);" +
-                                "else " +
-                                    "return result;" +
-                                "end;" +
-                            "end; " +
-                            "return result;",
-                    Collections.singletonList(getRawName()), limit);
-        });
+        return commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_LIST,
+                  "local result = {};"
+                      + "for i = 1, ARGV[1], 1 do " +
+                            "local value = redis.call('rpop', KEYS[1]);" +
+                            "if value ~= false then " +
+                                "table.insert(result, value);" +
+                            "else " +
+                                "return result;" +
+                            "end;" +
+                        "end; " +
+                        "return result;",
+                Collections.singletonList(getRawName()), limit);
     }
 
     @Override
@@ -18,19 +18,15 @@ package org.redisson;
 import org.redisson.api.*;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
-import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
-import org.redisson.misc.CompletableFutureWrapper;
 
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.util.*;
-import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Supplier;
 
 /**
  *
@@ -73,6 +69,7 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
     
     RLock lock;
     private RBucket<String> comparatorHolder;
+    private final SortedListOperations<V> operations;
 
     public RedissonPriorityQueue(CommandAsyncExecutor commandExecutor, String name, RedissonClient redisson) {
         super(commandExecutor, name, redisson);
@@ -80,6 +77,7 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
         comparatorHolder = redisson.getBucket(getComparatorKeyName(), StringCodec.INSTANCE);
         lock = redisson.getLock("redisson_sortedset_lock:{" + getRawName() + "}");
+        operations = new SortedListOperations<>(this, lock);
     }
 
     public RedissonPriorityQueue(Codec codec, CommandAsyncExecutor commandExecutor, String name, RedissonClient redisson) {
@@ -88,6 +86,7 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
         comparatorHolder = redisson.getBucket(getComparatorKeyName(), StringCodec.INSTANCE);
         lock = redisson.getLock("redisson_sortedset_lock:{" + getRawName() + "}");
+        operations = new SortedListOperations<>(this, lock);
     }
 
     private void loadComparator() {
@@ -148,33 +147,8 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
     @Override
     public boolean add(V value) {
-        lock.lock();
-        
-        try {
-            checkComparator();
-    
-            BinarySearchResult<V> res = binarySearch(value);
-            int index = 0;
-            if (res.getIndex() < 0) {
-                index = -(res.getIndex() + 1);
-            } else {
-                index = res.getIndex() + 1;
-            }
-                
-            get(commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_VOID,
-               "local len = redis.call('llen', KEYS[1]);"
-                + "if tonumber(ARGV[1]) < len then "
-                    + "local pivot = redis.call('lindex', KEYS[1], ARGV[1]);"
-                    + "redis.call('linsert', KEYS[1], 'before', pivot, ARGV[2]);"
-                    + "return;"
-                + "end;"
-                + "redis.call('rpush', KEYS[1], ARGV[2]);", 
-                    Arrays.asList(getRawName()),
-                    index, encode(value)));
-            return true;
-        } finally {
-            lock.unlock();
-        }
+        checkComparator();
+        return operations.add(value, comparator, true);
     }
 
     private void checkComparator() {
@@ -190,21 +164,8 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
     @Override
     public boolean remove(Object value) {
-        lock.lock();
-
-        try {
-            checkComparator();
-            
-            BinarySearchResult<V> res = binarySearch((V) value);
-            if (res.getIndex() < 0) {
-                return false;
-            }
-
-            remove((int) res.getIndex());
-            return true;
-        } finally {
-            lock.unlock();
-        }
+        checkComparator();
+        return operations.remove(value, comparator);
     }
 
     @Override
@@ -265,24 +226,7 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
     @Override
     public RFuture<V> pollAsync() {
-        return wrapLockedAsync(RedisCommands.LPOP, getRawName());
-    }
-
-    protected <T> RFuture<V> wrapLockedAsync(RedisCommand<T> command, Object... params) {
-        return wrapLockedAsync(() -> {
-            return commandExecutor.writeAsync(getRawName(), codec, command, params);
-        });
-    }
-
-    protected final <T, R> RFuture<R> wrapLockedAsync(Supplier<RFuture<R>> callable) {
-        long threadId = Thread.currentThread().getId();
-        CompletionStage<R> f = lock.lockAsync(threadId).thenCompose(r -> {
-            RFuture<R> callback = callable.get();
-            return callback.thenCompose(value -> {
-                return lock.unlockAsync(threadId).thenApply(res -> value);
-            });
-        });
-        return new CompletableFutureWrapper<>(f);
+        return commandExecutor.writeAsync(getRawName(), codec, RedisCommands.LPOP, getRawName());
     }
 
     public V getFirst() {
@@ -342,33 +286,9 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
         return value;
     }
     
-    // TODO optimize: get three values each time instead of single
     public BinarySearchResult<V> binarySearch(V value) {
-        int size = size();
-        int upperIndex = size - 1;
-        int lowerIndex = 0;
-        while (lowerIndex <= upperIndex) {
-            int index = lowerIndex + (upperIndex - lowerIndex) / 2;
-
-            V res = getValue(index);
-            if (res == null) {
-                return new BinarySearchResult<V>();
-            }
-            int cmp = comparator.compare(value, res);
-
-            if (cmp == 0) {
-                BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-                indexRes.setIndex(index);
-                return indexRes;
-            } else if (cmp < 0) {
-                upperIndex = index - 1;
-            } else {
-                lowerIndex = index + 1;
-            }
-        }
-
         BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-        indexRes.setIndex(-(lowerIndex + 1));
+        indexRes.setIndex(operations.search(value, comparator).getIndex());
         return indexRes;
     }
 
@@ -397,7 +317,7 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
     @Override
     public RFuture<V> pollLastAndOfferFirstToAsync(String queueName) {
-        return wrapLockedAsync(RedisCommands.RPOPLPUSH, getRawName(), queueName);
+        return commandExecutor.writeAsync(getRawName(), codec, RedisCommands.RPOPLPUSH, getRawName(), queueName);
     }
 
     @Override
@@ -437,19 +357,17 @@ public class RedissonPriorityQueue<V> extends RedissonList<V> implements RPriori
 
     @Override
     public RFuture<List<V>> pollAsync(int limit) {
-        return wrapLockedAsync(() -> {
-            return commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_LIST,
-                       "local result = {};"
-                     + "for i = 1, ARGV[1], 1 do " +
-                           "local value = redis.call('lpop', KEYS[1]);" +
-                           "if value ~= false then " +
-                               "table.insert(result, value);" +
-                           "else " +
-                               "return result;" +
-                           "end;" +
-                       "end; " +
-                       "return result;",
-                    Collections.singletonList(getRawName()), limit);
-        });
+        return commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_LIST,
+                   "local result = {};"
+                 + "for i = 1, ARGV[1], 1 do " +
+                       "local value = redis.call('lpop', KEYS[1]);" +
+                       "if value ~= false then " +
+                           "table.insert(result, value);" +
+                       "else " +
+                           "return result;" +
+                       "end;" +
+                   "end; " +
+                   "return result;",
+                Collections.singletonList(getRawName()), limit);
     }
 }
@@ -45,6 +45,11 @@ public class RedissonReadLock extends RedissonLock implements RLock {
     String getChannelName() {
         return prefixName("redisson_rwlock", getRawName());
     }
+
+    @Override
+    protected boolean isSharedChannelSupported() {
+        return false;
+    }
     
     String getWriteLockName(long threadId) {
         return super.getLockName(threadId) + ":write";
@@ -27,7 +27,11 @@ import org.redisson.remote.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
@@ -42,18 +46,18 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
 
     public static class Entry {
         
-        RFuture<String> future;
+        RFuture<?> future;
         final AtomicInteger counter;
         
         public Entry(int workers) {
             counter = new AtomicInteger(workers);
         }
         
-        public void setFuture(RFuture<String> future) {
+        public void setFuture(RFuture<?> future) {
             this.future = future;
         }
         
-        public RFuture<String> getFuture() {
+        public RFuture<?> getFuture() {
             return future;
         }
         
@@ -263,7 +267,11 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
                 }
                 
                 if (entry.getCounter().decrementAndGet() > 0) {
-                    subscribe(remoteInterface, requestQueue, executor, bean);
+                    if (requestId == null) {
+                        subscribe(remoteInterface, requestQueue, executor, bean);
+                    } else {
+                        drain(remoteInterface, requestQueue, executor, bean);
+                    }
                 }
 
                 // poll method may return null value
@@ -273,105 +281,214 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
                     return;
                 }
 
-                RMap<String, RemoteServiceRequest> tasks = getMap(((RedissonObject) requestQueue).getRawName() + ":tasks");
-                RFuture<RemoteServiceRequest> taskFuture = getTask(requestId, tasks);
-                taskFuture.whenComplete((request, exc) -> {
-                    if (exc != null) {
-                        if (exc instanceof RedissonShutdownException) {
+                processRequest(remoteInterface, requestQueue, executor, bean, requestId);
+        });
+    }
+
+    /**
+     * Takes up to amount of free workers request ids per single round trip
+     * without blocking. Falls back to blocking poll if request queue is empty.
+     */
+    private <T> void drain(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean) {
+        Entry entry = remoteMap.get(remoteInterface);
+        if (entry == null) {
+            return;
+        }
+
+        int free = entry.getCounter().get();
+        if (free <= 0) {
+            // worker released later re-subscribes
+            return;
+        }
+        String requestQueueName = ((RedissonObject) requestQueue).getRawName();
+        RFuture<List<String>> future = commandExecutor.evalWriteNoRetryAsync(requestQueueName, StringCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local ids = redis.call('lrange', KEYS[1], 0, tonumber(ARGV[1]) - 1); "
+              + "if #ids > 0 then "
+                  + "redis.call('ltrim', KEYS[1], #ids, -1); "
+              + "end; "
+              + "return ids;",
+                Collections.singletonList(requestQueueName), free);
+        entry.setFuture(future);
+        future.whenComplete((ids, e) -> {
+            if (remoteMap.get(remoteInterface) == null) {
+                return;
+            }
+
+            if (e != null) {
+                if (e instanceof RedissonShutdownException) {
+                    return;
+                }
+                log.error("Can't process the remote service request.", e);
+                subscribe(remoteInterface, requestQueue, executor, bean);
+                return;
+            }
+
+            if (ids.isEmpty()) {
+                subscribe(remoteInterface, requestQueue, executor, bean);
+                return;
+            }
+
+            if (entry.getCounter().addAndGet(-ids.size()) > 0) {
+                subscribe(remoteInterface, requestQueue, executor, bean);
+            }
+
+            RMap<String, RemoteServiceRequest> tasks = getMap(requestQueueName + ":tasks");
+            RFuture<List<RemoteServiceRequest>> tasksFuture = getTasks(ids, tasks);
+            processRequests(remoteInterface, requestQueue, executor, bean, ids, tasksFuture);
+        });
+    }
+
+    private <T> void processRequest(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean, String requestId) {
+        RMap<String, RemoteServiceRequest> tasks = getMap(((RedissonObject) requestQueue).getRawName() + ":tasks");
+        RFuture<RemoteServiceRequest> taskFuture = getTask(requestId, tasks);
+        processRequests(remoteInterface, requestQueue, executor, bean,
+                            Collections.singletonList(requestId), taskFuture.thenApply(Collections::singletonList));
+    }
+
+    private <T> void processRequests(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean, List<String> requestIds, CompletionStage<List<RemoteServiceRequest>> tasksFuture) {
+        tasksFuture.whenComplete((requests, exc) -> {
+            if (exc != null) {
+                if (exc instanceof RedissonShutdownException
+                        || exc.getCause() instanceof RedissonShutdownException) {
+                    return;
+                }
+                log.error("Can't process the remote service requests with ids " + requestIds, exc);
+
+                // re-subscribe after a failed takeAsync
+                for (int i = 0; i < requestIds.size(); i++) {
+                    resubscribe(remoteInterface, requestQueue, executor, bean);
+                }
+                return;
+            }
+
+            List<RemoteServiceRequest> ackRequests = new ArrayList<>();
+            for (int i = 0; i < requestIds.size(); i++) {
+                RemoteServiceRequest request = requests.get(i);
+                if (request == null) {
+                    log.debug("Task can't be found for request: {}", requestIds.get(i));
+
+                    // re-subscribe after a skipped ackTimeout
+                    resubscribe(remoteInterface, requestQueue, executor, bean);
+                    continue;
+                }
+
+                long elapsedTime = System.currentTimeMillis() - request.getDate();
+                // check the ack only if expected
+                if (request.getOptions().isAckExpected() && elapsedTime > request
+                        .getOptions().getAckTimeoutInMillis()) {
+                    log.debug("request: {} has been skipped due to ackTimeout. Elapsed time: {}ms", request.getId(), elapsedTime);
+
+                    // re-subscribe after a skipped ackTimeout
+                    resubscribe(remoteInterface, requestQueue, executor, bean);
+                    continue;
+                }
+
+                // send the ack only if expected
+                if (request.getOptions().isAckExpected()) {
+                    ackRequests.add(request);
+                } else {
+                    executeMethod(remoteInterface, requestQueue, executor, request, bean);
+                }
+            }
+
+            if (!ackRequests.isEmpty()) {
+                sendAcks(remoteInterface, requestQueue, executor, bean, ackRequests);
+            }
+        });
+    }
+
+    /**
+     * Sends acks of requests taken at once. Ack keys are set by single script call
+     * and acks are pushed by single call per response queue.
+     */
+    private <T> void sendAcks(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean, List<RemoteServiceRequest> requests) {
+        List<Object> ackNames = new ArrayList<>(requests.size());
+        List<Object> ackTimeouts = new ArrayList<>(requests.size());
+        for (RemoteServiceRequest request : requests) {
+            ackNames.add(getAckName(request.getId()));
+            ackTimeouts.add(request.getOptions().getAckTimeoutInMillis());
+        }
+
+        RFuture<List<Long>> ackClientsFuture = commandExecutor.evalWriteNoRetryAsync((String) ackNames.get(0),
+                LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                  "local result = {}; "
+                + "for i = 1, #KEYS, 1 do "
+                    + "if redis.call('setnx', KEYS[i], 1) == 1 then "
+                        + "redis.call('pexpire', KEYS[i], ARGV[i]); "
+                        + "table.insert(result, 1); "
+                    + "else "
+                        + "table.insert(result, 0); "
+                    + "end; "
+                + "end; "
+                + "return result;",
+                ackNames, ackTimeouts.toArray());
+
+        ackClientsFuture.whenComplete((acked, ex) -> {
+            if (ex != null) {
+                if (ex instanceof RedissonShutdownException) {
+                    return;
+                }
+                log.error("Can't send ack for requests: " + requests, ex);
+
+                // re-subscribe after a failed send (ack)
+                for (int i = 0; i < requests.size(); i++) {
+                    resubscribe(remoteInterface, requestQueue, executor, bean);
+                }
+                return;
+            }
+
+            Map<String, List<RemoteServiceRequest>> requestsByResponseName = new HashMap<>();
+            for (int i = 0; i < requests.size(); i++) {
+                RemoteServiceRequest request = requests.get(i);
+                if (acked.get(i) == 1) {
+                    String responseName = getResponseQueueName(request.getExecutorId());
+                    requestsByResponseName.computeIfAbsent(responseName, k -> new ArrayList<>()).add(request);
+                } else {
+                    resubscribe(remoteInterface, requestQueue, executor, bean);
+                }
+            }
+
+            requestsByResponseName.forEach((responseName, responseRequests) -> {
+                List<RemoteServiceAck> acks = new ArrayList<>(responseRequests.size());
+                for (RemoteServiceRequest request : responseRequests) {
+                    acks.add(new RemoteServiceAck(request.getId()));
+                }
+
+                RList<Object> list = new RedissonList<>(codec, commandExecutor, responseName, null);
+                RFuture<Boolean> addFuture = list.addAllAsync(acks);
+                addFuture.whenComplete((res, exce) -> {
+                    if (exce != null) {
+                        if (exce instanceof RedissonShutdownException) {
                             return;
                         }
-                        log.error("Can't process the remote service request with id " + requestId, exc);
-                            
-                        // re-subscribe after a failed takeAsync
-                        resubscribe(remoteInterface, requestQueue, executor, bean);
-                        return;
-                    }
-                    
-                    if (request == null) {
-                        log.debug("Task can't be found for request: {}", requestId);
-                        
-                        // re-subscribe after a skipped ackTimeout
-                        resubscribe(remoteInterface, requestQueue, executor, bean);
+                        log.error("Can't send ack for requests: " + responseRequests, exce);
+
+                        // re-subscribe after a failed send (ack)
+                        for (int i = 0; i < responseRequests.size(); i++) {
+                            resubscribe(remoteInterface, requestQueue, executor, bean);
+                        }
                         return;
                     }
-                    
-                    long elapsedTime = System.currentTimeMillis() - request.getDate();
-                    // check the ack only if expected
-                    if (request.getOptions().isAckExpected() && elapsedTime > request
-                            .getOptions().getAckTimeoutInMillis()) {
-                        log.debug("request: {} has been skipped due to ackTimeout. Elapsed time: {}ms", request.getId(), elapsedTime);
-                        
-                        // re-subscribe after a skipped ackTimeout
-                        resubscribe(remoteInterface, requestQueue, executor, bean);
+
+                    if (!res) {
+                        for (int i = 0; i < responseRequests.size(); i++) {
+                            resubscribe(remoteInterface, requestQueue, executor, bean);
+                        }
                         return;
                     }
 
-
-                    // send the ack only if expected
-                    if (request.getOptions().isAckExpected()) {
-                        String responseName = getResponseQueueName(request.getExecutorId());
-                        String ackName = getAckName(request.getId());
-                                RFuture<Boolean> ackClientsFuture = commandExecutor.evalWriteNoRetryAsync(responseName,
-                                        LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
-                                            "if redis.call('setnx', KEYS[1], 1) == 1 then " 
-                                                + "redis.call('pexpire', KEYS[1], ARGV[1]);"
-//                                                    + "redis.call('rpush', KEYS[2], ARGV[1]);"
-//                                                    + "redis.call('pexpire', KEYS[2], ARGV[2]);" 
-                                                + "return 1;" 
-                                            + "end;" 
-                                            + "return 0;",
-                                        Arrays.<Object>asList(ackName),
-                                        request.getOptions().getAckTimeoutInMillis());
-//                                            Arrays.<Object>asList(ackName, responseName),
-//                                            encode(new RemoteServiceAck(request.getId())), request.getOptions().getAckTimeoutInMillis());
-
-                                ackClientsFuture.whenComplete((r, ex) -> {
-                                    if (ex != null) {
-                                        if (ex instanceof RedissonShutdownException) {
-                                            return;
-                                        }
-                                        log.error("Can't send ack for request: " + request, ex);
-
-                                        // re-subscribe after a failed send (ack)
-                                        resubscribe(remoteInterface, requestQueue, executor, bean);
-                                        return;
-                                    }
-
-                                    if (!r) {
-                                        resubscribe(remoteInterface, requestQueue, executor, bean);
-                                        return;
-                                    }
-                                    
-
-                                    RList<Object> list = new RedissonList<>(codec, commandExecutor, responseName, null);
-                                    RFuture<Boolean> addFuture = list.addAsync(new RemoteServiceAck(request.getId()));
-                                    addFuture.whenComplete((res, exce) -> {
-                                        if (exce != null) {
-                                            if (exce instanceof RedissonShutdownException) {
-                                                return;
-                                            }
-                                            log.error("Can't send ack for request: " + request, exce);
-
-                                            // re-subscribe after a failed send (ack)
-                                            resubscribe(remoteInterface, requestQueue, executor, bean);
-                                            return;
-                                        }
-
-                                        if (!res) {
-                                            resubscribe(remoteInterface, requestQueue, executor, bean);
-                                            return;
-                                        }
-                                        
-                                        executeMethod(remoteInterface, requestQueue, executor, request, bean);
-                                    });
-                                });
-                    } else {
+                    for (RemoteServiceRequest request : responseRequests) {
                         executeMethod(remoteInterface, requestQueue, executor, request, bean);
                     }
                 });
+            });
         });
     }
-    
+
     private <T> RFuture<RRemoteServiceResponse> executeMethod(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
             ExecutorService executor, RemoteServiceRequest request, Object bean) {
         RemoteServiceMethod method = Arrays.stream(remoteInterface.getMethods())
@@ -395,7 +512,6 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
                     timeout = request.getOptions().getExecutionTimeoutInMillis();
                 }
 
-                RBlockingQueueAsync<RRemoteServiceResponse> queue = getBlockingQueue(responseName, codec);
                 try {
                     RRemoteServiceResponse response;
                     if (result instanceof RemoteServiceResponse
@@ -405,8 +521,11 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
                     } else {
                         response = result;
                     }
-                    RFuture<Void> clientsFuture = queue.putAsync(response);
-                    queue.expireAsync(timeout, TimeUnit.MILLISECONDS);
+                    RFuture<Void> clientsFuture = commandExecutor.evalWriteNoRetryAsync(responseName,
+                            LongCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                              "redis.call('rpush', KEYS[1], ARGV[1]); "
+                            + "redis.call('pexpire', KEYS[1], ARGV[2]);",
+                            Collections.singletonList(responseName), encode(response), timeout);
 
                     clientsFuture.whenComplete((res, exc) -> {
                         if (exc != null) {
@@ -486,4 +605,23 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
         return tasks.removeAsync(requestId);
     }
 
+    /**
+     * Removes tasks of claimed requests in a single round trip.
+     * Result list contains <code>null</code> for absent tasks
+     * and has the same order as <code>requestIds</code>.
+     */
+    protected RFuture<List<RemoteServiceRequest>> getTasks(List<String> requestIds, RMap<String, RemoteServiceRequest> tasks) {
+        return commandExecutor.evalWriteNoRetryAsync(((RedissonObject) tasks).getRawName(), codec, RedisCommands.EVAL_LIST,
+                "local result = {}; "
+              + "for i = 1, #ARGV, 1 do "
+                  + "local value = redis.call('hget', KEYS[1], ARGV[i]); "
+                  + "if value ~= false then "
+                      + "redis.call('hdel', KEYS[1], ARGV[i]); "
+                  + "end; "
+                  + "table.insert(result, value); "
+              + "end; "
+              + "return result;",
+                Collections.singletonList(((RedissonObject) tasks).getRawName()), requestIds.toArray());
+    }
+
 }
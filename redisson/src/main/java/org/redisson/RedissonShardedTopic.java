@@ -60,9 +60,9 @@ public class RedissonShardedTopic extends RedissonTopic implements RShardedTopic
     }
 
     @Override
-    public RFuture<Long> publishAsync(Object message) {
+    protected RFuture<Long> publishAsync(CommandAsyncExecutor executor, Object message) {
         String name = getName(message);
-        return commandExecutor.writeAsync(name, StringCodec.INSTANCE, RedisCommands.SPUBLISH, name, commandExecutor.encode(codec, message));
+        return executor.writeAsync(name, StringCodec.INSTANCE, RedisCommands.SPUBLISH, name, executor.encode(codec, message));
     }
 
     @Override
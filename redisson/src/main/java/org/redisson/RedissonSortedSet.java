@@ -15,7 +15,6 @@
  */
 package org.redisson;
 
-import io.netty.buffer.ByteBuf;
 import org.redisson.api.*;
 import org.redisson.api.mapreduce.RCollectionMapReduce;
 import org.redisson.client.RedisClient;
@@ -75,7 +74,7 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     CommandAsyncExecutor commandExecutor;
     
-    private RLock lock;
+    private final SortedListOperations<V> operations;
     private RedissonList<V> list;
     private RBucket<String> comparatorHolder;
     private RedissonClient redisson;
@@ -86,7 +85,7 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         this.redisson = redisson;
 
         comparatorHolder = redisson.getBucket(getComparatorKeyName(), StringCodec.INSTANCE);
-        lock = redisson.getLock("redisson_sortedset_lock:{" + getRawName() + "}");
+        operations = new SortedListOperations<>(this, redisson.getLock("redisson_sortedset_lock:{" + getRawName() + "}"));
         list = (RedissonList<V>) redisson.<V>getList(getRawName());
     }
 
@@ -95,7 +94,7 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         this.commandExecutor = commandExecutor;
 
         comparatorHolder = redisson.getBucket(getComparatorKeyName(), StringCodec.INSTANCE);
-        lock = redisson.getLock("redisson_sortedset_lock:{" + getRawName() + "}");
+        operations = new SortedListOperations<>(this, redisson.getLock("redisson_sortedset_lock:{" + getRawName() + "}"));
         list = (RedissonList<V>) redisson.<V>getList(getRawName(), codec);
     }
     
@@ -189,32 +188,8 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     @Override
     public boolean add(V value) {
-        lock.lock();
-        
-        try {
-            checkComparator();
-    
-            BinarySearchResult<V> res = binarySearch(value, codec);
-            if (res.getIndex() < 0) {
-                int index = -(res.getIndex() + 1);
-                
-                ByteBuf encodedValue = encode(value);
-                
-                commandExecutor.get(commandExecutor.evalWriteNoRetryAsync(getRawName(), codec, RedisCommands.EVAL_VOID,
-                   "local len = redis.call('llen', KEYS[1]);"
-                    + "if tonumber(ARGV[1]) < len then "
-                        + "local pivot = redis.call('lindex', KEYS[1], ARGV[1]);"
-                        + "redis.call('linsert', KEYS[1], 'before', pivot, ARGV[2]);"
-                        + "return;"
-                    + "end;"
-                    + "redis.call('rpush', KEYS[1], ARGV[2]);", Arrays.<Object>asList(getRawName()), index, encodedValue));
-                return true;
-            } else {
-                return false;
-            }
-        } finally {
-            lock.unlock();
-        }
+        checkComparator();
+        return operations.add(value, comparator, false);
     }
 
     private void checkComparator() {
@@ -264,21 +239,8 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     @Override
     public boolean remove(Object value) {
-        lock.lock();
-
-        try {
-            checkComparator();
-            
-            BinarySearchResult<V> res = binarySearch((V) value, codec);
-            if (res.getIndex() < 0) {
-                return false;
-            }
-
-            list.remove((int) res.getIndex());
-            return true;
-        } finally {
-            lock.unlock();
-        }
+        checkComparator();
+        return operations.remove(value, comparator);
     }
 
     @Override
@@ -441,33 +403,9 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
                 Arrays.asList(getRawName(), iteratorName), count);
     }
 
-    // TODO optimize: get three values each time instead of single
     public BinarySearchResult<V> binarySearch(V value, Codec codec) {
-        int size = list.size();
-        int upperIndex = size - 1;
-        int lowerIndex = 0;
-        while (lowerIndex <= upperIndex) {
-            int index = lowerIndex + (upperIndex - lowerIndex) / 2;
-
-            V res = list.getValue(index);
-            if (res == null) {
-                return new BinarySearchResult<V>();
-            }
-            int cmp = comparator.compare(value, res);
-
-            if (cmp == 0) {
-                BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-                indexRes.setIndex(index);
-                return indexRes;
-            } else if (cmp < 0) {
-                upperIndex = index - 1;
-            } else {
-                lowerIndex = index + 1;
-            }
-        }
-
         BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-        indexRes.setIndex(-(lowerIndex + 1));
+        indexRes.setIndex(operations.search(value, comparator).getIndex());
         return indexRes;
     }
 
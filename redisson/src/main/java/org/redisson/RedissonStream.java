@@ -1417,4 +1417,13 @@ public class RedissonStream<K, V> extends RedissonExpirable implements RStream<K
         return trimAsync(args, false);
     }
 
+    @Override
+    public RStreamGroupConsumer createConsumer(String groupName, String consumerName,
+                                               StreamConsumerOptions options, StreamMessageHandler<K, V> handler) {
+        RedissonStreamGroupConsumer<K, V> consumer = new RedissonStreamGroupConsumer<>(this,
+                commandExecutor.getConnectionManager(), groupName, consumerName, options, handler);
+        consumer.start();
+        return consumer;
+    }
+
 }
@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import io.netty.util.Timeout;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RStreamGroupConsumer;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamConsumerOptions;
+import org.redisson.api.stream.StreamMessageHandler;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.connection.ConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stream consumer which keeps bounded amount of prefetched messages
+ * read by blocking XREADGROUP loop, coalesces acknowledgements into
+ * batched XACK commands and claims stale pending messages by XAUTOCLAIM.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class RedissonStreamGroupConsumer<K, V> implements RStreamGroupConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(RedissonStreamGroupConsumer.class);
+
+    private final RStreamAsync<K, V> stream;
+    private final ConnectionManager connectionManager;
+    private final String groupName;
+    private final String consumerName;
+    private final StreamConsumerOptions options;
+    private final StreamMessageHandler<K, V> handler;
+    private final ExecutorService executor;
+
+    private final AtomicInteger prefetched = new AtomicInteger();
+    // ids of messages dispatched to handler and not yet acknowledged
+    private final Set<StreamMessageId> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reading = new AtomicBoolean();
+    private final Queue<StreamMessageId> acks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger acksSize = new AtomicInteger();
+
+    private volatile boolean shutdown;
+    private volatile Timeout ackTimeout;
+    private volatile Timeout claimTimeout;
+    private StreamMessageId claimStartId = new StreamMessageId(0);
+
+    public RedissonStreamGroupConsumer(RStreamAsync<K, V> stream, ConnectionManager connectionManager,
+                                       String groupName, String consumerName,
+                                       StreamConsumerOptions options, StreamMessageHandler<K, V> handler) {
+        this.stream = stream;
+        this.connectionManager = connectionManager;
+        this.groupName = groupName;
+        this.consumerName = consumerName;
+        this.options = options;
+        this.handler = handler;
+        if (options.getExecutor() != null) {
+            this.executor = options.getExecutor();
+        } else {
+            this.executor = connectionManager.getExecutor();
+        }
+    }
+
+    public void start() {
+        scheduleAck();
+        if (options.getClaimIdleTime() > 0) {
+            scheduleClaim();
+        }
+        readNext();
+    }
+
+    private void readNext() {
+        if (shutdown || !reading.compareAndSet(false, true)) {
+            return;
+        }
+
+        int free = options.getPrefetchSize() - prefetched.get();
+        if (free <= 0) {
+            reading.set(false);
+            // handler may release capacity before flag reset
+            if (options.getPrefetchSize() - prefetched.get() > 0) {
+                readNext();
+            }
+            return;
+        }
+
+        StreamReadGroupArgs args = StreamReadGroupArgs.neverDelivered()
+                                        .count(Math.min(free, options.getBatchSize()))
+                                        .timeout(Duration.ofMillis(options.getPollTimeout()));
+        stream.readGroupAsync(groupName, consumerName, args).whenComplete((res, e) -> {
+            if (e != null) {
+                if (!shutdown && !connectionManager.isShuttingDown()) {
+                    log.error("Unable to read messages from stream. group: " + groupName + ", consumer: " + consumerName, e);
+                    connectionManager.newTimeout(t -> {
+                        reading.set(false);
+                        readNext();
+                    }, 1, TimeUnit.SECONDS);
+                }
+                return;
+            }
+
+            dispatch(res);
+            reading.set(false);
+            readNext();
+        });
+    }
+
+    private void dispatch(Map<StreamMessageId, Map<K, V>> messages) {
+        if (messages == null) {
+            return;
+        }
+
+        for (Map.Entry<StreamMessageId, Map<K, V>> entry : messages.entrySet()) {
+            // XAUTOCLAIM returns own pending messages as well
+            if (!inFlight.add(entry.getKey())) {
+                continue;
+            }
+
+            prefetched.incrementAndGet();
+            try {
+                executor.execute(() -> handle(entry.getKey(), entry.getValue()));
+            } catch (RejectedExecutionException e) {
+                // message stays pending and is claimed later
+                prefetched.decrementAndGet();
+                inFlight.remove(entry.getKey());
+            }
+        }
+    }
+
+    private void handle(StreamMessageId id, Map<K, V> message) {
+        try {
+            if (shutdown) {
+                return;
+            }
+            try {
+                handler.onMessage(id, message);
+            } catch (Exception e) {
+                log.error("Unable to handle message " + id + " of stream. group: " + groupName + ", consumer: " + consumerName, e);
+                inFlight.remove(id);
+                return;
+            }
+
+            acks.add(id);
+            if (acksSize.incrementAndGet() >= options.getAckBatchSize()) {
+                flushAcks();
+            }
+        } finally {
+            prefetched.decrementAndGet();
+            if (!reading.get()) {
+                readNext();
+            }
+        }
+    }
+
+    private void flushAcks() {
+        List<StreamMessageId> ids = new ArrayList<>();
+        StreamMessageId id;
+        while ((id = acks.poll()) != null) {
+            acksSize.decrementAndGet();
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        stream.ackAsync(groupName, ids.toArray(new StreamMessageId[0])).whenComplete((r, e) -> {
+            if (e != null) {
+                log.error("Unable to acknowledge messages of stream. group: " + groupName + ", consumer: " + consumerName, e);
+            }
+            // unacknowledged messages stay pending and may be claimed again
+            ids.forEach(inFlight::remove);
+        });
+    }
+
+    private void scheduleAck() {
+        ackTimeout = connectionManager.newTimeout(t -> {
+            flushAcks();
+            if (!shutdown) {
+                scheduleAck();
+            }
+        }, options.getAckInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduleClaim() {
+        claimTimeout = connectionManager.newTimeout(t -> claim(), options.getClaimInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    private void claim() {
+        if (shutdown) {
+            return;
+        }
+
+        int free = options.getPrefetchSize() - prefetched.get();
+        if (free <= 0) {
+            scheduleClaim();
+            return;
+        }
+
+        int count = Math.min(free, options.getBatchSize());
+        stream.autoClaimAsync(groupName, consumerName, options.getClaimIdleTime(), TimeUnit.MILLISECONDS,
+                                claimStartId, count).whenComplete((res, e) -> {
+            if (e != null) {
+                if (!shutdown && !connectionManager.isShuttingDown()) {
+                    log.error("Unable to claim messages of stream. group: " + groupName + ", consumer: " + consumerName, e);
+                    scheduleClaim();
+                }
+                return;
+            }
+
+            dispatch(res.getMessages());
+            claimStartId = nextClaimId(res);
+            scheduleClaim();
+        });
+    }
+
+    private StreamMessageId nextClaimId(AutoClaimResult<K, V> res) {
+        if (res.getNextId() == null) {
+            return new StreamMessageId(0);
+        }
+        return res.getNextId();
+    }
+
+    @Override
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    @Override
+    public int getPrefetched() {
+        return prefetched.get();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        Timeout at = ackTimeout;
+        if (at != null) {
+            at.cancel();
+        }
+        Timeout ct = claimTimeout;
+        if (ct != null) {
+            ct.cancel();
+        }
+        flushAcks();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+}
@@ -20,6 +20,7 @@ import org.redisson.api.RTimeSeries;
 import org.redisson.api.TimeSeriesEntry;
 import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.DoubleCodec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
@@ -491,6 +492,89 @@ public class RedissonTimeSeries<V> extends RedissonExpirable implements RTimeSer
         return entryRangeAsync(true, startTimestamp, endTimestamp, limit);
     }
 
+    @Override
+    public Collection<TimeSeriesEntry<Double>> aggregate(long startTimestamp, long endTimestamp, long bucketSize, Aggregate aggregate) {
+        return get(aggregateAsync(startTimestamp, endTimestamp, bucketSize, aggregate));
+    }
+
+    @Override
+    public RFuture<Collection<TimeSeriesEntry<Double>>> aggregateAsync(long startTimestamp, long endTimestamp, long bucketSize, Aggregate aggregate) {
+        if (bucketSize <= 0) {
+            throw new IllegalArgumentException("bucketSize should be positive");
+        }
+
+        return commandExecutor.evalReadAsync(getRawName(), DoubleCodec.INSTANCE, ENTRIES,
+          "local start = tonumber(ARGV[2]); " +
+          "local size = tonumber(ARGV[4]); " +
+          "local buckets = {}; " +
+          "local order = {}; " +
+
+          "local function process(member, score) " +
+             "local expirationDate = redis.call('zscore', KEYS[2], member);" +
+             "if tonumber(expirationDate) <= tonumber(ARGV[1]) then " +
+                 "return; " +
+             "end;" +
+             "local t, val = struct.unpack('Bc0Lc0', member); " +
+             "local n = tonumber(val); " +
+             "if n == nil then " +
+                 "error('Value ' .. val .. ' is not a number'); " +
+             "end; " +
+             "local bucket = start + math.floor((tonumber(score) - start) / size) * size; " +
+             "local b = buckets[bucket]; " +
+             "if b == nil then " +
+                 "b = {min = n, max = n, sum = 0, count = 0}; " +
+                 "buckets[bucket] = b; " +
+                 "table.insert(order, bucket); " +
+             "end; " +
+             "b.min = math.min(b.min, n); " +
+             "b.max = math.max(b.max, n); " +
+             "b.sum = b.sum + n; " +
+             "b.count = b.count + 1; " +
+          "end; " +
+
+          "local from = ARGV[2]; " +
+          "while true do " +
+             "local values = redis.call('zrangebyscore', KEYS[1], from, ARGV[3], 'withscores', 'limit', 0, 1000);" +
+             "if #values < 2000 then " +
+                 "for i=1, #values, 2 do " +
+                     "process(values[i], values[i+1]); " +
+                 "end;" +
+                 "break; " +
+             "end; " +
+             // entries with the last score are read at once, since the next page starts after it
+             "local last = values[#values]; " +
+             "for i=1, #values, 2 do " +
+                 "if values[i+1] ~= last then " +
+                     "process(values[i], values[i+1]); " +
+                 "end; " +
+             "end;" +
+             "for i, member in ipairs(redis.call('zrangebyscore', KEYS[1], last, last)) do " +
+                 "process(member, last); " +
+             "end;" +
+             "from = '(' .. last; " +
+          "end; " +
+
+          "local result = {}; " +
+          "for i, bucket in ipairs(order) do " +
+             "local b = buckets[bucket]; " +
+             "local v = b.count; " +
+             "if ARGV[5] == 'MIN' then " +
+                 "v = b.min; " +
+             "elseif ARGV[5] == 'MAX' then " +
+                 "v = b.max; " +
+             "elseif ARGV[5] == 'AVG' then " +
+                 "v = b.sum / b.count; " +
+             "elseif ARGV[5] == 'SUM' then " +
+                 "v = b.sum; " +
+             "end; " +
+             "table.insert(result, string.format('%.17g', v)); " +
+             "table.insert(result, string.format('%.0f', bucket)); " +
+          "end; " +
+          "return result;",
+            Arrays.asList(getRawName(), getTimeoutSetName()),
+            System.currentTimeMillis(), startTimestamp, endTimestamp, bucketSize, aggregate.name());
+    }
+
     @Override
     public Collection<V> pollFirst(int count) {
         return get(pollFirstAsync(count));
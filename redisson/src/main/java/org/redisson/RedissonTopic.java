@@ -18,6 +18,8 @@ package org.redisson;
 import org.redisson.api.NameMapper;
 import org.redisson.api.RFuture;
 import org.redisson.api.RTopic;
+import org.redisson.api.RTopicPublisher;
+import org.redisson.api.TopicPublisherOptions;
 import org.redisson.api.listener.MessageListener;
 import org.redisson.api.listener.StatusListener;
 import org.redisson.client.ChannelName;
@@ -94,8 +96,17 @@ public class RedissonTopic implements RTopic {
 
     @Override
     public RFuture<Long> publishAsync(Object message) {
+        return publishAsync(commandExecutor, message);
+    }
+
+    protected RFuture<Long> publishAsync(CommandAsyncExecutor executor, Object message) {
         String name = getName(message);
-        return commandExecutor.writeAsync(name, StringCodec.INSTANCE, RedisCommands.PUBLISH, name, commandExecutor.encode(codec, message));
+        return executor.writeAsync(name, StringCodec.INSTANCE, RedisCommands.PUBLISH, name, executor.encode(codec, message));
+    }
+
+    @Override
+    public RTopicPublisher createPublisher(TopicPublisherOptions options) {
+        return new RedissonTopicPublisher(this, options);
     }
 
     @Override
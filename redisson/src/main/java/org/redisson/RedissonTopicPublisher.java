@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import io.netty.util.Timeout;
+import org.redisson.api.RFuture;
+import org.redisson.api.RTopicPublisher;
+import org.redisson.api.TopicPublisherOptions;
+import org.redisson.client.RedisException;
+import org.redisson.command.CommandBatchService;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publisher which pipelines collected PUBLISH or SPUBLISH commands.
+ * Commands are grouped per node by batch execution.
+ * Only one batch is in flight at a time to keep order of messages.
+ * Messages collected meanwhile are sent once it completes.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonTopicPublisher implements RTopicPublisher {
+
+    private static class Entry {
+
+        private final Object message;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        Entry(Object message) {
+            this.message = message;
+        }
+
+    }
+
+    private final RedissonTopic topic;
+    private final TopicPublisherOptions options;
+
+    private List<Entry> entries = new ArrayList<>();
+    private Timeout timeout;
+    private boolean sending;
+    private boolean shutdown;
+
+    public RedissonTopicPublisher(RedissonTopic topic, TopicPublisherOptions options) {
+        this.topic = topic;
+        this.options = options;
+    }
+
+    @Override
+    public RFuture<Long> publishAsync(Object message) {
+        Entry entry = new Entry(message);
+        List<Entry> toSend = null;
+        synchronized (this) {
+            if (shutdown) {
+                entry.result.completeExceptionally(new RedisException("Publisher is shutdown"));
+                return new CompletableFutureWrapper<>(entry.result);
+            }
+
+            entries.add(entry);
+            // while batch is in flight, entries are sent once it completes
+            if (!sending) {
+                if (entries.size() >= options.getBatchSize()) {
+                    toSend = takeEntries();
+                } else if (timeout == null) {
+                    timeout = topic.commandExecutor.getConnectionManager().newTimeout(t -> flush(),
+                                                        options.getMaxDelay(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        if (toSend != null) {
+            send(toSend);
+        }
+        return new CompletableFutureWrapper<>(entry.result);
+    }
+
+    private List<Entry> takeEntries() {
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+        if (sending || entries.isEmpty()) {
+            return null;
+        }
+
+        List<Entry> result = entries;
+        entries = new ArrayList<>();
+        sending = true;
+        return result;
+    }
+
+    @Override
+    public void flush() {
+        List<Entry> toSend;
+        synchronized (this) {
+            toSend = takeEntries();
+        }
+        if (toSend != null) {
+            send(toSend);
+        }
+    }
+
+    private void sent() {
+        List<Entry> toSend;
+        synchronized (this) {
+            sending = false;
+            toSend = takeEntries();
+        }
+        if (toSend != null) {
+            send(toSend);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+        }
+        flush();
+    }
+
+    private void send(List<Entry> toSend) {
+        if (toSend.size() == 1) {
+            Entry entry = toSend.get(0);
+            topic.publishAsync(entry.message).whenComplete((r, e) -> {
+                complete(entry, r, e);
+                sent();
+            });
+            return;
+        }
+
+        CommandBatchService batch = new CommandBatchService(topic.commandExecutor);
+        for (Entry entry : toSend) {
+            topic.publishAsync(batch, entry.message).whenComplete((r, e) -> complete(entry, r, e));
+        }
+        batch.executeAsync().whenComplete((r, e) -> {
+            if (e != null) {
+                for (Entry entry : toSend) {
+                    entry.result.completeExceptionally(e);
+                }
+            }
+            sent();
+        });
+    }
+
+    private void complete(Entry entry, Long result, Throwable e) {
+        if (e != null) {
+            entry.result.completeExceptionally(e);
+            return;
+        }
+        entry.result.complete(result);
+    }
+
+}
@@ -47,6 +47,11 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
         return prefixName("redisson_rwlock", getRawName());
     }
 
+    @Override
+    protected boolean isSharedChannelSupported() {
+        return false;
+    }
+
     @Override
     protected String getLockName(long threadId) {
         return super.getLockName(threadId) + ":write";
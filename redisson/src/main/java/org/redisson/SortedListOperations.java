@@ -0,0 +1,409 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.RedisCommands;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ordered insert and removal for list based sorted collections without distributed lock.
+ * <p>
+ * Position of element is located by k-ary search which requires one script invocation per level.
+ * Changes are applied by script which checks that neighbour elements are still the same
+ * and operation is repeated otherwise. After a few conflicting attempts operation
+ * is executed under lock, which makes scripts of other writers fail until it's released.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+final class SortedListOperations<V> {
+
+    // LINDEX walks the list, so amount of samples per round is kept low
+    private static final int SAMPLES = 8;
+    private static final int LEAF_SIZE = 64;
+    private static final int MAX_ATTEMPTS = 5;
+
+    static final class Position {
+
+        private final int index;
+        private final byte[] left;
+        private final byte[] right;
+
+        Position(int index, byte[] left, byte[] right) {
+            this.index = index;
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Returns index of element if it's found,
+         * otherwise <code>(-(insertion point) - 1)</code>.
+         *
+         * @return index
+         */
+        int getIndex() {
+            return index;
+        }
+
+    }
+
+    private final RedissonObject object;
+    private final RLock lock;
+
+    SortedListOperations(RedissonObject object, RLock lock) {
+        this.object = object;
+        this.lock = lock;
+    }
+
+    private String getLockName() {
+        return ((RedissonObject) lock).getRawName();
+    }
+
+    private String getLockHolder() {
+        return ((RedissonBaseLock) lock).getLockName(Thread.currentThread().getId());
+    }
+
+    private void backoff(int attempt) {
+        if (attempt == 0) {
+            return;
+        }
+        long delay = ThreadLocalRandom.current().nextLong(1L << Math.min(attempt, 5)) + 1;
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(delay));
+    }
+
+    private Object decode(byte[] value) {
+        ByteBuf buf = Unpooled.wrappedBuffer(value);
+        try {
+            return object.getCodec().getValueDecoder().decode(buf, new State());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private byte[] encode(Object value) {
+        ByteBuf buf = object.encode(value);
+        try {
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    Position search(Object value, Comparator<Object> comparator) {
+        Position position = search(value, comparator, MAX_ATTEMPTS);
+        if (position != null) {
+            return position;
+        }
+
+        lock.lock();
+        try {
+            // only poll operations are able to shift elements now
+            return search(value, comparator, Integer.MAX_VALUE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns <code>null</code> if search was restarted more than <code>maxRestarts</code> times
+     * due to concurrent changes.
+     */
+    private Position search(Object value, Comparator<Object> comparator, int maxRestarts) {
+        long lowerIndex = 0;
+        long upperIndex = -1;
+        int restarts = 0;
+        while (true) {
+            RFuture<List<Object>> future = object.commandExecutor.evalReadAsync(object.getRawName(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                    "local len = redis.call('llen', KEYS[1]); " +
+                    "local lo = math.min(tonumber(ARGV[1]), len); " +
+                    "local hi = tonumber(ARGV[2]); " +
+                    "local k = tonumber(ARGV[3]); " +
+                    "if hi < 0 or hi >= len then " +
+                        "hi = len - 1; " +
+                    "end; " +
+                    "if hi - lo + 1 <= tonumber(ARGV[4]) then " +
+                        "local from = math.max(lo - 1, 0); " +
+                        "local result = {len, 1, lo, hi, from}; " +
+                        "for i, v in ipairs(redis.call('lrange', KEYS[1], from, hi + 1)) do " +
+                            "table.insert(result, v); " +
+                        "end; " +
+                        "return result; " +
+                    "end; " +
+                    "local result = {len, 0, lo, hi}; " +
+                    "local step = (hi - lo + 1) / (k + 1); " +
+                    "for j = 1, k do " +
+                        "local index = lo + math.floor(step * j); " +
+                        "table.insert(result, index); " +
+                        "table.insert(result, redis.call('lindex', KEYS[1], index)); " +
+                    "end; " +
+                    "return result; ",
+                    Collections.<Object>singletonList(object.getRawName()), lowerIndex, upperIndex, SAMPLES, LEAF_SIZE);
+            List<Object> res = object.commandExecutor.get(future);
+
+            long lo = (Long) res.get(2);
+            long hi = (Long) res.get(3);
+            if ((Long) res.get(1) == 1) {
+                long from = (Long) res.get(4);
+                List<Object> values = res.subList(5, res.size());
+
+                // neighbours of the range are compared as well,
+                // since the list could be shifted by concurrent changes between rounds
+                if (from < lo) {
+                    byte[] v = (byte[]) values.get(0);
+                    int cmp = comparator.compare(value, decode(v));
+                    if (cmp == 0) {
+                        return new Position((int) from, null, v);
+                    }
+                    if (cmp < 0) {
+                        if (++restarts > maxRestarts) {
+                            return null;
+                        }
+                        lowerIndex = 0;
+                        upperIndex = -1;
+                        continue;
+                    }
+                }
+
+                for (int i = (int) (lo - from); i < values.size() && from + i <= hi; i++) {
+                    byte[] v = (byte[]) values.get(i);
+                    int cmp = comparator.compare(value, decode(v));
+                    if (cmp == 0) {
+                        return new Position((int) (from + i), null, v);
+                    }
+                    if (cmp < 0) {
+                        return insertionPosition(from + i, from, values);
+                    }
+                }
+
+                long index = hi + 1;
+                if (index - from < values.size()) {
+                    byte[] v = (byte[]) values.get((int) (index - from));
+                    int cmp = comparator.compare(value, decode(v));
+                    if (cmp == 0) {
+                        return new Position((int) index, null, v);
+                    }
+                    if (cmp > 0) {
+                        if (++restarts > maxRestarts) {
+                            return null;
+                        }
+                        lowerIndex = 0;
+                        upperIndex = -1;
+                        continue;
+                    }
+                }
+                return insertionPosition(index, from, values);
+            }
+
+            lowerIndex = lo;
+            upperIndex = hi;
+            for (int i = 4; i < res.size(); i += 2) {
+                long index = (Long) res.get(i);
+                byte[] v = (byte[]) res.get(i + 1);
+                int cmp = comparator.compare(value, decode(v));
+                if (cmp == 0) {
+                    return new Position((int) index, null, v);
+                }
+                if (cmp < 0) {
+                    upperIndex = index - 1;
+                    break;
+                }
+                lowerIndex = index + 1;
+            }
+        }
+    }
+
+    private Position insertionPosition(long index, long from, List<Object> values) {
+        byte[] left = null;
+        if (index > 0) {
+            left = (byte[]) values.get((int) (index - 1 - from));
+        }
+        byte[] right = null;
+        if (index - from < values.size()) {
+            right = (byte[]) values.get((int) (index - from));
+        }
+        return new Position((int) (-index - 1), left, right);
+    }
+
+    /**
+     * Inserts element according to comparator order.
+     *
+     * @param value - element
+     * @param comparator - comparator
+     * @param allowDuplicates - <code>true</code> to insert element even if equal element exists
+     * @return <code>true</code> if element was inserted
+     */
+    boolean add(V value, Comparator<Object> comparator, boolean allowDuplicates) {
+        byte[] encodedValue = encode(value);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            backoff(attempt);
+            Boolean res = tryAdd(value, encodedValue, comparator, allowDuplicates, "", MAX_ATTEMPTS);
+            if (res != null) {
+                return res;
+            }
+        }
+
+        lock.lock();
+        try {
+            String lockHolder = getLockHolder();
+            while (true) {
+                // only poll operations are able to cause conflict now
+                Boolean res = tryAdd(value, encodedValue, comparator, allowDuplicates, lockHolder, Integer.MAX_VALUE);
+                if (res != null) {
+                    return res;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns <code>null</code> if element can't be inserted due to concurrent changes.
+     */
+    private Boolean tryAdd(V value, byte[] encodedValue, Comparator<Object> comparator,
+                           boolean allowDuplicates, String lockHolder, int maxRestarts) {
+        Position position = search(value, comparator, maxRestarts);
+        if (position == null) {
+            return null;
+        }
+
+        int index = position.getIndex();
+        if (index >= 0) {
+            if (!allowDuplicates) {
+                return false;
+            }
+        } else {
+            index = -(index + 1);
+        }
+
+        // equal element is used as pivot, so left neighbour isn't checked
+        boolean checkLeft = position.getIndex() < 0 && index > 0;
+        Boolean res = object.commandExecutor.get(object.commandExecutor.evalWriteNoRetryAsync(object.getRawName(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('exists', KEYS[2]) == 1 and redis.call('hexists', KEYS[2], ARGV[7]) == 0 then " +
+                    "return 0; " +
+                "end; " +
+                "local len = redis.call('llen', KEYS[1]); " +
+                "local index = tonumber(ARGV[1]); " +
+                "if index > len then " +
+                    "return 0; " +
+                "end; " +
+                "if ARGV[2] == '1' and redis.call('lindex', KEYS[1], index - 1) ~= ARGV[3] then " +
+                    "return 0; " +
+                "end; " +
+                "if index < len then " +
+                    "local pivot = redis.call('lindex', KEYS[1], index); " +
+                    "if ARGV[4] == '0' or pivot ~= ARGV[5] then " +
+                        "return 0; " +
+                    "end; " +
+                    "redis.call('linsert', KEYS[1], 'before', pivot, ARGV[6]); " +
+                    "return 1; " +
+                "end; " +
+                "if ARGV[4] == '1' then " +
+                    "return 0; " +
+                "end; " +
+                "redis.call('rpush', KEYS[1], ARGV[6]); " +
+                "return 1; ",
+                Arrays.<Object>asList(object.getRawName(), getLockName()),
+                index,
+                checkLeft ? "1" : "0", checkLeft ? position.left : new byte[0],
+                position.right != null ? "1" : "0", position.right != null ? position.right : new byte[0],
+                encodedValue, lockHolder));
+        if (res) {
+            return true;
+        }
+        return null;
+    }
+
+    /**
+     * Removes element equal to specified value according to comparator order.
+     *
+     * @param value - element
+     * @param comparator - comparator
+     * @return <code>true</code> if element was removed
+     */
+    boolean remove(Object value, Comparator<Object> comparator) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            backoff(attempt);
+            Boolean res = tryRemove(value, comparator, "", MAX_ATTEMPTS);
+            if (res != null) {
+                return res;
+            }
+        }
+
+        lock.lock();
+        try {
+            String lockHolder = getLockHolder();
+            while (true) {
+                // only poll operations are able to cause conflict now
+                Boolean res = tryRemove(value, comparator, lockHolder, Integer.MAX_VALUE);
+                if (res != null) {
+                    return res;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns <code>null</code> if element can't be removed due to concurrent changes.
+     */
+    private Boolean tryRemove(Object value, Comparator<Object> comparator, String lockHolder, int maxRestarts) {
+        Position position = search(value, comparator, maxRestarts);
+        if (position == null) {
+            return null;
+        }
+        if (position.getIndex() < 0) {
+            return false;
+        }
+
+        Boolean res = object.commandExecutor.get(object.commandExecutor.evalWriteNoRetryAsync(object.getRawName(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('exists', KEYS[2]) == 1 and redis.call('hexists', KEYS[2], ARGV[3]) == 0 then " +
+                    "return 0; " +
+                "end; " +
+                "if redis.call('lindex', KEYS[1], ARGV[1]) ~= ARGV[2] then " +
+                    "return 0; " +
+                "end; " +
+                "redis.call('lset', KEYS[1], ARGV[1], 'DELETED_BY_REDISSON'); " +
+                "redis.call('lrem', KEYS[1], 1, 'DELETED_BY_REDISSON'); " +
+                "return 1; ",
+                Arrays.<Object>asList(object.getRawName(), getLockName()),
+                position.getIndex(), position.right, lockHolder));
+        if (res) {
+            return true;
+        }
+        return null;
+    }
+
+}
@@ -17,6 +17,7 @@ package org.redisson.api;
 
 import org.redisson.api.geo.GeoSearchArgs;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -51,6 +52,18 @@ public interface RGeoAsync<V> extends RScoredSortedSetAsync<V> {
      */
     RFuture<Long> addAsync(GeoEntry... entries);
 
+    /**
+     * Adds geospatial members split into chunks.
+     * Chunks are sent without waiting for replies of previous chunks.
+     *
+     * @param entries - objects
+     * @param chunkSize - amount of objects per GEOADD command
+     * @return number of elements added to the sorted set,
+     * not including elements already existing for which
+     * the score was updated
+     */
+    RFuture<Long> addAllAsync(Collection<GeoEntry> entries, int chunkSize);
+
     /**
      * Adds geospatial member only if it's already exists.
      * <p>
@@ -121,6 +134,29 @@ public interface RGeoAsync<V> extends RScoredSortedSetAsync<V> {
      */
     RFuture<Map<V, GeoPosition>> posAsync(V... members);
 
+    /**
+     * Returns amount of members located within specified radius
+     * of each defined center. Calculated on Redis side in a single call.
+     *
+     * @param centers - center positions
+     * @param radius - radius
+     * @param geoUnit - geo unit
+     * @return list of amounts in the same order as <code>centers</code>
+     */
+    RFuture<List<Long>> radiusCountAsync(List<GeoPosition> centers, double radius, GeoUnit geoUnit);
+
+    /**
+     * Returns up to <code>count</code> nearest members located within specified radius
+     * of each defined point. Calculated on Redis side in a single call.
+     *
+     * @param points - positions
+     * @param radius - radius
+     * @param geoUnit - geo unit
+     * @param count - maximum amount of members per point
+     * @return list of members ordered by distance in the same order as <code>points</code>
+     */
+    RFuture<List<List<V>>> nearestAsync(List<GeoPosition> points, double radius, GeoUnit geoUnit, int count);
+
     /**
      * Returns the members of a sorted set, which are within the
      * borders of specified search conditions.
@@ -18,6 +18,7 @@ package org.redisson.api;
 import io.reactivex.rxjava3.core.Single;
 import org.redisson.api.geo.GeoSearchArgs;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +53,18 @@ public interface RGeoRx<V> extends RScoredSortedSetRx<V> {
      */
     Single<Long> add(GeoEntry... entries);
 
+    /**
+     * Adds geospatial members split into chunks.
+     * Chunks are sent without waiting for replies of previous chunks.
+     *
+     * @param entries - objects
+     * @param chunkSize - amount of objects per GEOADD command
+     * @return number of elements added to the sorted set,
+     * not including elements already existing for which
+     * the score was updated
+     */
+    Single<Long> addAll(Collection<GeoEntry> entries, int chunkSize);
+
     /**
      * Adds geospatial member only if it's already exists.
      * <p>
@@ -122,6 +135,29 @@ public interface RGeoRx<V> extends RScoredSortedSetRx<V> {
      */
     Single<Map<V, GeoPosition>> pos(V... members);
 
+    /**
+     * Returns amount of members located within specified radius
+     * of each defined center. Calculated on Redis side in a single call.
+     *
+     * @param centers - center positions
+     * @param radius - radius
+     * @param geoUnit - geo unit
+     * @return list of amounts in the same order as <code>centers</code>
+     */
+    Single<List<Long>> radiusCount(List<GeoPosition> centers, double radius, GeoUnit geoUnit);
+
+    /**
+     * Returns up to <code>count</code> nearest members located within specified radius
+     * of each defined point. Calculated on Redis side in a single call.
+     *
+     * @param points - positions
+     * @param radius - radius
+     * @param geoUnit - geo unit
+     * @param count - maximum amount of members per point
+     * @return list of members ordered by distance in the same order as <code>points</code>
+     */
+    Single<List<List<V>>> nearest(List<GeoPosition> points, double radius, GeoUnit geoUnit, int count);
+
     /**
      * Returns the members of a sorted set, which are within the
      * borders of specified search conditions.
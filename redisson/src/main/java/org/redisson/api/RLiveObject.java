@@ -38,4 +38,13 @@ public interface RLiveObject extends RExpirable {
      */
     void setLiveObjectId(Object liveObjectId);
 
+    /**
+     * Writes all field changes made to this object in one batch
+     * including updates of index entries.
+     * <p>
+     * Has effect only for objects returned by {@link RLiveObjectService#getCached(Class, Object, String...)}
+     * method. Other objects write field changes immediately.
+     */
+    void flush();
+
 }
@@ -52,6 +52,27 @@ public interface RLiveObjectService {
      * @return a proxied object if it exists in redis, or null if not.
      */
     <T> T get(Class<T> entityClass, Object id);
+
+    /**
+     * Returns proxied object for the entity with the id.
+     * <p>
+     * Values of specified <code>fieldNames</code> (or all fields if none specified)
+     * are loaded with a single request on first getter invocation and cached in the object.
+     * Setter invocations are cached in the object too and written to Redis
+     * in one batch along with index updates by {@link RLiveObject#flush()} method.
+     * Fields holding Redisson objects or references to other entities
+     * are always written immediately.
+     * <p>
+     * Existence of the entity isn't checked.
+     * Returned object shouldn't be shared between threads.
+     *
+     * @param entityClass - entity class
+     * @param id identifier
+     * @param fieldNames - names of fields loaded together
+     * @param <T> Entity type
+     * @return a proxied object
+     */
+    <T> T getCached(Class<T> entityClass, Object id, String... fieldNames);
     
     /**
      * Finds the entities matches specified <code>condition</code>.
@@ -70,6 +91,32 @@ public interface RLiveObjectService {
      */
     <T> Collection<T> find(Class<T> entityClass, Condition condition);
 
+    /**
+     * Finds the entities matches specified <code>condition</code>
+     * and returns up to <code>limit</code> of them skipping first <code>offset</code> entities.
+     * <p>
+     * Conditions are evaluated on Redis side starting from index with the least
+     * amount of entries, so only matched ids are transferred.
+     * Order of entities is preserved between invocations until indexes are changed,
+     * which allows to read result by pages.
+     * <p>
+     * Usage example:
+     * <pre>
+     * Collection objects = liveObjectService.find(MyObject.class, Conditions.and(Conditions.eq("field", "value1"),
+     *                          Conditions.gt("field2", 100)), 0, 50);
+     * </pre>
+     *
+     * @see Conditions
+     *
+     * @param <T> Entity type
+     * @param entityClass - entity class
+     * @param condition - condition object
+     * @param offset - amount of matched entities to skip
+     * @param limit - max amount of entities returned. <code>0</code> means no limit
+     * @return collection of live objects or empty collection.
+     */
+    <T> Collection<T> find(Class<T> entityClass, Condition condition, int offset, int limit);
+
     /**
      * Counts the entities matches specified <code>condition</code>.
      * Usage example:
@@ -834,4 +834,24 @@ public interface RStream<K, V> extends RStreamAsync<K, V>, RExpirable {
      */
     List<StreamConsumer> listConsumers(String groupName);
     
+    /**
+     * Creates and starts consumer which reads messages of this stream
+     * within <code>groupName</code> group in background.
+     * <p>
+     * Consumer keeps bounded amount of prefetched messages,
+     * invokes <code>handler</code> using defined executor,
+     * acknowledges handled messages by batched XACK commands
+     * and claims idle pending messages of other consumers.
+     * <p>
+     * Requires <b>Redis 6.2.0 and higher</b> if claiming is enabled.
+     *
+     * @param groupName - name of group
+     * @param consumerName - name of consumer
+     * @param options - consumer options
+     * @param handler - message handler
+     * @return consumer object
+     */
+    RStreamGroupConsumer createConsumer(String groupName, String consumerName,
+                                        StreamConsumerOptions options, StreamMessageHandler<K, V> handler);
+
 }
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+/**
+ * Background consumer of RStream messages within consumer group.
+ * Created by RStream.createConsumer() method.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RStreamGroupConsumer {
+
+    /**
+     * Returns name of consumer group.
+     *
+     * @return name of group
+     */
+    String getGroupName();
+
+    /**
+     * Returns name of consumer.
+     *
+     * @return name of consumer
+     */
+    String getConsumerName();
+
+    /**
+     * Returns amount of messages read from stream but not yet handled.
+     *
+     * @return amount of messages
+     */
+    int getPrefetched();
+
+    /**
+     * Stops reading of new messages and sends acknowledgements
+     * for already handled messages.
+     */
+    void shutdown();
+
+    /**
+     * Returns <code>true</code> if this consumer was shutdown.
+     *
+     * @return <code>true</code> if consumer was shutdown
+     */
+    boolean isShutdown();
+
+}
@@ -29,6 +29,12 @@ import java.util.stream.Stream;
  */
 public interface RTimeSeries<V> extends RExpirable, Iterable<V>, RTimeSeriesAsync<V>, RDestroyable {
 
+    enum Aggregate {
+
+        MIN, MAX, AVG, SUM, COUNT
+
+    }
+
     /**
      * Adds element to this time-series collection
      * by specified <code>timestamp</code>.
@@ -277,4 +283,20 @@ public interface RTimeSeries<V> extends RExpirable, Iterable<V>, RTimeSeriesAsyn
      */
     Iterator<V> iterator(int count);
 
+    /**
+     * Returns values of this time-series collection within timestamp range aggregated
+     * by time buckets of <code>bucketSize</code> milliseconds. Including boundary values.
+     * Values are aggregated on Redis side, only one value per bucket is transferred.
+     * <p>
+     * Requires numeric values encoded as plain numbers, e.g. by {@link org.redisson.client.codec.DoubleCodec}
+     * or {@link org.redisson.client.codec.LongCodec}.
+     *
+     * @param startTimestamp - start timestamp
+     * @param endTimestamp - end timestamp
+     * @param bucketSize - bucket size in milliseconds
+     * @param aggregate - aggregation function
+     * @return entries with bucket start timestamp and aggregated value
+     */
+    Collection<TimeSeriesEntry<Double>> aggregate(long startTimestamp, long endTimestamp, long bucketSize, Aggregate aggregate);
+
 }
@@ -253,4 +253,20 @@ public interface RTimeSeriesAsync<V> extends RExpirableAsync {
      */
     RFuture<Collection<TimeSeriesEntry<V>>> entryRangeReversedAsync(long startTimestamp, long endTimestamp, int limit);
 
+    /**
+     * Returns values of this time-series collection within timestamp range aggregated
+     * by time buckets of <code>bucketSize</code> milliseconds. Including boundary values.
+     * Values are aggregated on Redis side, only one value per bucket is transferred.
+     * <p>
+     * Requires numeric values encoded as plain numbers, e.g. by {@link org.redisson.client.codec.DoubleCodec}
+     * or {@link org.redisson.client.codec.LongCodec}.
+     *
+     * @param startTimestamp - start timestamp
+     * @param endTimestamp - end timestamp
+     * @param bucketSize - bucket size in milliseconds
+     * @param aggregate - aggregation function
+     * @return entries with bucket start timestamp and aggregated value
+     */
+    RFuture<Collection<TimeSeriesEntry<Double>>> aggregateAsync(long startTimestamp, long endTimestamp, long bucketSize, RTimeSeries.Aggregate aggregate);
+
 }
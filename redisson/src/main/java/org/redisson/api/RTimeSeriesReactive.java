@@ -223,4 +223,20 @@ public interface RTimeSeriesReactive<V> extends RExpirableReactive {
      */
     Mono<Collection<TimeSeriesEntry<V>>> entryRangeReversed(long startTimestamp, long endTimestamp);
 
+    /**
+     * Returns values of this time-series collection within timestamp range aggregated
+     * by time buckets of <code>bucketSize</code> milliseconds. Including boundary values.
+     * Values are aggregated on Redis side, only one value per bucket is transferred.
+     * <p>
+     * Requires numeric values encoded as plain numbers, e.g. by {@link org.redisson.client.codec.DoubleCodec}
+     * or {@link org.redisson.client.codec.LongCodec}.
+     *
+     * @param startTimestamp - start timestamp
+     * @param endTimestamp - end timestamp
+     * @param bucketSize - bucket size in milliseconds
+     * @param aggregate - aggregation function
+     * @return entries with bucket start timestamp and aggregated value
+     */
+    Mono<Collection<TimeSeriesEntry<Double>>> aggregate(long startTimestamp, long endTimestamp, long bucketSize, RTimeSeries.Aggregate aggregate);
+
 }
@@ -43,6 +43,16 @@ public interface RTopic extends RTopicAsync {
      */
     long publish(Object message);
 
+    /**
+     * Creates publisher which collects messages and sends them
+     * to this topic in pipelined batches. Trades up to
+     * <code>maxDelay</code> of latency for higher throughput.
+     *
+     * @param options - publisher options
+     * @return publisher object
+     */
+    RTopicPublisher createPublisher(TopicPublisherOptions options);
+
     /**
      * Subscribes to this topic.
      * <code>MessageListener.onMessage</code> is called when any message
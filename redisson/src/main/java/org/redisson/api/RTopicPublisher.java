@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+/**
+ * Publisher which collects messages and sends them
+ * to topic in pipelined batches.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RTopicPublisher {
+
+    /**
+     * Adds the message to current batch. Batch is sent once amount of
+     * collected messages reaches <code>batchSize</code> or
+     * <code>maxDelay</code> interval elapsed.
+     *
+     * @param message to send
+     * @return the number of clients that received the message
+     */
+    RFuture<Long> publishAsync(Object message);
+
+    /**
+     * Sends all collected messages immediately.
+     */
+    void flush();
+
+    /**
+     * Sends all collected messages and rejects new ones.
+     */
+    void shutdown();
+
+}
@@ -200,6 +200,36 @@ public interface RedissonClient {
      */
     <K, V> RMapCache<K, V> getMapCache(String name, MapOptions<K, V> options);
 
+    /**
+     * Returns map-based cache instance by name.
+     * Supports entry eviction with a given TTL setting.
+     * <p>
+     * Uses native hash field expiration and requires Redis 7.4+.
+     * Use {@link #getMapCache(String)} for older Redis versions.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @return MapCacheNative object
+     */
+    <K, V> RMapCacheNative<K, V> getMapCacheNative(String name);
+
+    /**
+     * Returns map-based cache instance by <code>name</code>
+     * using provided <code>codec</code> for both cache keys and values.
+     * Supports entry eviction with a given TTL setting.
+     * <p>
+     * Uses native hash field expiration and requires Redis 7.4+.
+     * Use {@link #getMapCache(String, Codec)} for older Redis versions.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - object name
+     * @param codec - codec for keys and values
+     * @return MapCacheNative object
+     */
+    <K, V> RMapCacheNative<K, V> getMapCacheNative(String name, Codec codec);
+
     /**
      * Returns object holder instance by name.
      *
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for batching publisher created by RTopic.createPublisher() method.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class TopicPublisherOptions {
+
+    private int batchSize = 100;
+
+    private long maxDelay = 5;
+
+    private TopicPublisherOptions() {
+    }
+
+    public static TopicPublisherOptions defaults() {
+        return new TopicPublisherOptions();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Defines amount of collected messages which causes
+     * them to be sent immediately in a single pipeline.
+     * <p>
+     * Default is <code>100</code>
+     *
+     * @param batchSize amount of messages
+     * @return self instance
+     */
+    public TopicPublisherOptions batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize should be greater than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Defines maximum time interval the message may wait
+     * before it's sent along with other collected messages.
+     * <p>
+     * Default is <code>5 milliseconds</code>
+     *
+     * @param delay value
+     * @param unit value
+     * @return self instance
+     */
+    public TopicPublisherOptions maxDelay(long delay, TimeUnit unit) {
+        this.maxDelay = unit.toMillis(delay);
+        return this;
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.redisnode;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of connection pool used for Redis node.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class ConnectionPoolStats implements Serializable {
+
+    private static final long serialVersionUID = 5429316813219372102L;
+
+    private final int poolSize;
+    private final int usedConnections;
+    private final long acquiredConnections;
+    private final long awaitedConnections;
+    private final long acquireWaitTime;
+
+    public ConnectionPoolStats(int poolSize, int usedConnections, long acquiredConnections,
+                               long awaitedConnections, long acquireWaitTime) {
+        this.poolSize = poolSize;
+        this.usedConnections = usedConnections;
+        this.acquiredConnections = acquiredConnections;
+        this.awaitedConnections = awaitedConnections;
+        this.acquireWaitTime = acquireWaitTime;
+    }
+
+    /**
+     * Returns current limit of connections.
+     * Equals to <code>connectionPoolSize</code> if adaptive pool is disabled.
+     *
+     * @return amount of connections
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Returns amount of connections currently in use
+     *
+     * @return amount of connections
+     */
+    public int getUsedConnections() {
+        return usedConnections;
+    }
+
+    /**
+     * Returns total amount of connection acquisitions
+     *
+     * @return amount of acquisitions
+     */
+    public long getAcquiredConnections() {
+        return acquiredConnections;
+    }
+
+    /**
+     * Returns amount of connection acquisitions
+     * which have waited for a free connection.
+     *
+     * @return amount of acquisitions
+     */
+    public long getAwaitedConnections() {
+        return awaitedConnections;
+    }
+
+    /**
+     * Returns total time spent waiting for a free connection
+     *
+     * @return time in milliseconds
+     */
+    public long getAcquireWaitTime() {
+        return acquireWaitTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats [poolSize=" + poolSize + ", usedConnections=" + usedConnections
+                + ", acquiredConnections=" + acquiredConnections + ", awaitedConnections=" + awaitedConnections
+                + ", acquireWaitTime=" + acquireWaitTime + "]";
+    }
+
+}
@@ -29,6 +29,13 @@ import java.util.Set;
  */
 public interface RedisClusterNode extends RedisNode, RedisClusterNodeAsync {
 
+    /**
+     * Returns statistics of connection pool used for this Redis node.
+     *
+     * @return statistics or <code>null</code> if node isn't used by connection manager
+     */
+    ConnectionPoolStats getConnectionPoolStats();
+
     /**
      * Returns cluster information reported by this Redis node
      *
@@ -23,4 +23,11 @@ package org.redisson.api.redisnode;
  */
 public interface RedisMaster extends RedisNode, RedisMasterAsync {
 
+    /**
+     * Returns statistics of connection pool used for this Redis node.
+     *
+     * @return statistics or <code>null</code> if node isn't used by connection manager
+     */
+    ConnectionPoolStats getConnectionPoolStats();
+
 }
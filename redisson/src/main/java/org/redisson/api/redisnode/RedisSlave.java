@@ -22,4 +22,12 @@ package org.redisson.api.redisnode;
  *
  */
 public interface RedisSlave extends RedisNode, RedisSlaveAsync {
+
+    /**
+     * Returns statistics of connection pool used for this Redis node.
+     *
+     * @return statistics or <code>null</code> if node isn't used by connection manager
+     */
+    ConnectionPoolStats getConnectionPoolStats();
+
 }
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.stream;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for RStream consumer created by RStream.createConsumer() method.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class StreamConsumerOptions {
+
+    private int prefetchSize = 1000;
+
+    private int batchSize = 100;
+
+    private long pollTimeout = 1000;
+
+    private long ackInterval = 100;
+
+    private int ackBatchSize = 500;
+
+    private long claimIdleTime = 60000;
+
+    private long claimInterval = 10000;
+
+    private ExecutorService executor;
+
+    private StreamConsumerOptions() {
+    }
+
+    public static StreamConsumerOptions defaults() {
+        return new StreamConsumerOptions();
+    }
+
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Defines maximum amount of messages read from stream
+     * but not yet handled by consumer.
+     * <p>
+     * Default is <code>1000</code>
+     *
+     * @param prefetchSize amount of messages
+     * @return self instance
+     */
+    public StreamConsumerOptions prefetchSize(int prefetchSize) {
+        if (prefetchSize <= 0) {
+            throw new IllegalArgumentException("prefetchSize should be greater than 0");
+        }
+        this.prefetchSize = prefetchSize;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Defines maximum amount of messages requested per single
+     * XREADGROUP or XAUTOCLAIM command.
+     * <p>
+     * Default is <code>100</code>
+     *
+     * @param batchSize amount of messages
+     * @return self instance
+     */
+    public StreamConsumerOptions batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize should be greater than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long getPollTimeout() {
+        return pollTimeout;
+    }
+
+    /**
+     * Defines time interval to wait for stream data availability
+     * per single XREADGROUP command.
+     * <p>
+     * Default is <code>1 second</code>
+     *
+     * @param timeout value
+     * @param unit value
+     * @return self instance
+     */
+    public StreamConsumerOptions pollTimeout(long timeout, TimeUnit unit) {
+        this.pollTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    public long getAckInterval() {
+        return ackInterval;
+    }
+
+    /**
+     * Defines interval at which acknowledgements of handled messages
+     * are sent by single XACK command.
+     * <p>
+     * Default is <code>100 milliseconds</code>
+     *
+     * @param interval value
+     * @param unit value
+     * @return self instance
+     */
+    public StreamConsumerOptions ackInterval(long interval, TimeUnit unit) {
+        this.ackInterval = unit.toMillis(interval);
+        return this;
+    }
+
+    public int getAckBatchSize() {
+        return ackBatchSize;
+    }
+
+    /**
+     * Defines amount of collected acknowledgements which causes
+     * XACK command to be sent before <code>ackInterval</code> expiration.
+     * <p>
+     * Default is <code>500</code>
+     *
+     * @param ackBatchSize amount of acknowledgements
+     * @return self instance
+     */
+    public StreamConsumerOptions ackBatchSize(int ackBatchSize) {
+        this.ackBatchSize = ackBatchSize;
+        return this;
+    }
+
+    public long getClaimIdleTime() {
+        return claimIdleTime;
+    }
+
+    /**
+     * Defines idle time after which pending messages of other consumers
+     * are claimed by XAUTOCLAIM command.
+     * <p>
+     * Set <code>0</code> to disable.
+     * <p>
+     * Default is <code>1 minute</code>
+     *
+     * @param idleTime value
+     * @param unit value
+     * @return self instance
+     */
+    public StreamConsumerOptions claimIdleTime(long idleTime, TimeUnit unit) {
+        this.claimIdleTime = unit.toMillis(idleTime);
+        return this;
+    }
+
+    public long getClaimInterval() {
+        return claimInterval;
+    }
+
+    /**
+     * Defines interval at which XAUTOCLAIM command is executed.
+     * <p>
+     * Default is <code>10 seconds</code>
+     *
+     * @param interval value
+     * @param unit value
+     * @return self instance
+     */
+    public StreamConsumerOptions claimInterval(long interval, TimeUnit unit) {
+        this.claimInterval = unit.toMillis(interval);
+        return this;
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Defines executor used to invoke message handler.
+     * <p>
+     * Default is <code>null</code> which means Redisson executor is used
+     *
+     * @param executor executor
+     * @return self instance
+     */
+    public StreamConsumerOptions executor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.stream;
+
+import org.redisson.api.StreamMessageId;
+
+import java.util.Map;
+
+/**
+ * Handler of messages delivered by RStream consumer.
+ * <p>
+ * Message is acknowledged if method completes normally.
+ * Message stays in Pending Entries List if exception is thrown.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@FunctionalInterface
+public interface StreamMessageHandler<K, V> {
+
+    /**
+     * Invoked on message delivery.
+     *
+     * @param id message id
+     * @param message message content
+     */
+    void onMessage(StreamMessageId id, Map<K, V> message);
+
+}
@@ -138,34 +138,30 @@ public class CommandPubSubDecoder extends CommandDecoder {
                         channelName = ((PubSubPatternMessage) result).getPattern();
                     }
                     PubSubEntry entry = entries.remove(channelName);
-                    if (config.isKeepAlive()) {
-                        enqueueMessage(result, pubSubConnection, entry);
+                    if (config.isKeepPubSubOrder()) {
+                        if (entry != null) {
+                            enqueueMessage(result, pubSubConnection, entry);
+                        } else {
+                            dispatchMessage(result, pubSubConnection);
+                        }
                     }
                 }
             }
             
             
-            if (config.isKeepAlive()) {
+            if (config.isKeepPubSubOrder()) {
                 if (result instanceof PubSubPatternMessage) {
                     channelName = ((PubSubPatternMessage) result).getPattern();
                 }
                 PubSubEntry entry = entries.get(channelName);
                 if (entry != null) {
+                    if (result instanceof PubSubPatternMessage) {
+                        entry = entry.getStripe(((PubSubPatternMessage) result).getChannel());
+                    }
                     enqueueMessage(result, pubSubConnection, entry);
                 }
             } else {
-                config.getExecutor().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        if (result instanceof PubSubStatusMessage) {
-                            pubSubConnection.onMessage((PubSubStatusMessage) result);
-                        } else if (result instanceof PubSubMessage) {
-                            pubSubConnection.onMessage((PubSubMessage) result);
-                        } else if (result instanceof PubSubPatternMessage) {
-                            pubSubConnection.onMessage((PubSubPatternMessage) result);
-                        }
-                    }
-                });
+                dispatchMessage(result, pubSubConnection);
             }
         } else {
             if (data != null && data.getCommand().getName().equals("PING")) {
@@ -174,6 +170,21 @@ public class CommandPubSubDecoder extends CommandDecoder {
         }
     }
 
+    private void dispatchMessage(Object result, RedisPubSubConnection pubSubConnection) {
+        config.getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                if (result instanceof PubSubStatusMessage) {
+                    pubSubConnection.onMessage((PubSubStatusMessage) result);
+                } else if (result instanceof PubSubMessage) {
+                    pubSubConnection.onMessage((PubSubMessage) result);
+                } else if (result instanceof PubSubPatternMessage) {
+                    pubSubConnection.onMessage((PubSubPatternMessage) result);
+                }
+            }
+        });
+    }
+
     private void enqueueMessage(Object res, RedisPubSubConnection pubSubConnection, PubSubEntry entry) {
         if (res != null) {
             entry.getQueue().add((Message) res);
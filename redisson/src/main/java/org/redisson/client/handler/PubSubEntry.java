@@ -19,6 +19,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.redisson.client.ChannelName;
 import org.redisson.client.protocol.decoder.MultiDecoder;
 import org.redisson.client.protocol.pubsub.Message;
 
@@ -29,16 +30,47 @@ import org.redisson.client.protocol.pubsub.Message;
  */
 public class PubSubEntry {
 
+    private static final int STRIPES = 16;
+
     private final MultiDecoder<Object> decoder;
     
     private final Queue<Message> queue = new ConcurrentLinkedQueue<Message>();
 
     private final AtomicBoolean sent = new AtomicBoolean();
+
+    private volatile PubSubEntry[] stripes;
     
     public PubSubEntry(MultiDecoder<Object> decoder) {
         super();
         this.decoder = decoder;
     }
+
+    /**
+     * Returns entry used to handle messages of defined channel
+     * matched by pattern subscription. Messages of the same channel
+     * are handled in arrival order, messages of different channels
+     * are handled concurrently.
+     *
+     * @param channel - channel name
+     * @return entry
+     */
+    public PubSubEntry getStripe(ChannelName channel) {
+        PubSubEntry[] s = stripes;
+        if (s == null) {
+            synchronized (this) {
+                s = stripes;
+                if (s == null) {
+                    s = new PubSubEntry[STRIPES];
+                    for (int i = 0; i < s.length; i++) {
+                        s[i] = new PubSubEntry(decoder);
+                    }
+                    stripes = s;
+                }
+            }
+        }
+        int hash = channel.hashCode();
+        return s[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
     
     public MultiDecoder<Object> getDecoder() {
         return decoder;
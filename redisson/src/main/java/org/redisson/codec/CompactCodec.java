@@ -0,0 +1,863 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact binary codec for objects of defined class.
+ * <p>
+ * Serializer of each reachable class is built once from its fields.
+ * Field values are written directly into <code>ByteBuf</code> in fixed order
+ * without type metadata. Integer values use variable-length encoding.
+ * Primitive fields are accessed through typed <code>MethodHandle</code>s
+ * without boxing.
+ * <p>
+ * Supported field types are primitives and their wrappers, <code>String</code>,
+ * <code>byte[]</code>, enums, <code>Collection</code> and <code>Map</code>
+ * parameterized with supported types and classes with no-arg constructor
+ * consisting of such fields. Values of other types, including fields declared
+ * as interface or abstract class, are handled by fallback codec.
+ * <code>MarshallingCodec</code> used by default. Instance of subclass
+ * of declared class is handled by fallback codec as well.
+ * <p>
+ * Object graph is written as a tree. Shared references are written
+ * as separate copies. Cyclic references aren't supported
+ * and cause <code>IOException</code> on encoding.
+ * <p>
+ * Adding, removing or renaming fields changes the binary format.
+ * <p>
+ * Fully thread-safe.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class CompactCodec extends BaseCodec {
+
+    interface ValueCodec {
+
+        void write(ByteBuf out, Object value) throws IOException;
+
+        Object read(ByteBuf in) throws IOException;
+
+    }
+
+    // objects of currently written branch, used to detect cyclic references
+    private static final ThreadLocal<Set<Object>> WRITE_PATH =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final Class<?> type;
+    private final Codec fallbackCodec;
+    private final ValueCodec rootCodec;
+
+    public CompactCodec(Class<?> type) {
+        this(type, new MarshallingCodec());
+    }
+
+    public CompactCodec(Class<?> type, Codec fallbackCodec) {
+        this.type = type;
+        this.fallbackCodec = fallbackCodec;
+        this.rootCodec = createCodec(type, new HashMap<>());
+    }
+
+    public CompactCodec(ClassLoader classLoader, CompactCodec codec) throws ReflectiveOperationException {
+        this(codec.type, copy(classLoader, codec.fallbackCodec));
+    }
+
+    private ValueCodec createCodec(Type genericType, Map<Class<?>, ValueCodec> objectCodecs) {
+        Class<?> clazz = rawClass(genericType);
+        if (clazz == int.class || clazz == Integer.class) {
+            return INT;
+        }
+        if (clazz == long.class || clazz == Long.class) {
+            return LONG;
+        }
+        if (clazz == short.class || clazz == Short.class) {
+            return SHORT;
+        }
+        if (clazz == byte.class || clazz == Byte.class) {
+            return BYTE;
+        }
+        if (clazz == boolean.class || clazz == Boolean.class) {
+            return BOOLEAN;
+        }
+        if (clazz == char.class || clazz == Character.class) {
+            return CHAR;
+        }
+        if (clazz == float.class || clazz == Float.class) {
+            return FLOAT;
+        }
+        if (clazz == double.class || clazz == Double.class) {
+            return DOUBLE;
+        }
+        if (clazz == String.class) {
+            return STRING;
+        }
+        if (clazz == byte[].class) {
+            return BYTES;
+        }
+        if (clazz.isEnum()) {
+            return new EnumCodec(clazz);
+        }
+        if (Collection.class.isAssignableFrom(clazz)) {
+            Type elementType = typeArgument(genericType, 0);
+            if (elementType != null) {
+                Class<?> collectionClass = implementation(clazz);
+                if (collectionClass != null) {
+                    return new CollectionCodec(constructor(collectionClass),
+                                    nullable(createCodec(elementType, objectCodecs)));
+                }
+            }
+        }
+        if (Map.class.isAssignableFrom(clazz)) {
+            Type keyType = typeArgument(genericType, 0);
+            Type valueType = typeArgument(genericType, 1);
+            if (keyType != null && valueType != null) {
+                Class<?> mapClass = implementation(clazz);
+                if (mapClass != null) {
+                    return new MapCodec(constructor(mapClass),
+                                    nullable(createCodec(keyType, objectCodecs)),
+                                    nullable(createCodec(valueType, objectCodecs)));
+                }
+            }
+        }
+        if (isCompactObject(clazz)) {
+            ValueCodec codec = objectCodecs.get(clazz);
+            if (codec == null) {
+                ObjectCodec objectCodec = new ObjectCodec(clazz);
+                objectCodecs.put(clazz, objectCodec);
+                objectCodec.init(objectCodecs);
+                codec = objectCodec;
+            }
+            return codec;
+        }
+        return new FallbackCodec();
+    }
+
+    private boolean isCompactObject(Class<?> clazz) {
+        if (clazz.isInterface() || clazz.isArray() || clazz.isPrimitive()
+                || Modifier.isAbstract(clazz.getModifiers())
+                || clazz.getName().startsWith("java.")
+                || clazz.getName().startsWith("javax.")) {
+            return false;
+        }
+        try {
+            clazz.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return Object.class;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type arg = ((ParameterizedType) type).getActualTypeArguments()[index];
+        if (arg instanceof Class || arg instanceof ParameterizedType) {
+            return arg;
+        }
+        return null;
+    }
+
+    private static Class<?> implementation(Class<?> clazz) {
+        if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+            try {
+                clazz.getConstructor();
+                return clazz;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        if (clazz == List.class || clazz == Collection.class) {
+            return ArrayList.class;
+        }
+        if (clazz == Set.class) {
+            return LinkedHashSet.class;
+        }
+        if (clazz == SortedSet.class || clazz == NavigableSet.class) {
+            return TreeSet.class;
+        }
+        if (clazz == Map.class) {
+            return LinkedHashMap.class;
+        }
+        if (clazz == SortedMap.class || clazz == NavigableMap.class) {
+            return TreeMap.class;
+        }
+        return null;
+    }
+
+    private static MethodHandle constructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to access no-arg constructor of " + clazz, e);
+        }
+    }
+
+    private static ValueCodec nullable(ValueCodec codec) {
+        return new ValueCodec() {
+            @Override
+            public void write(ByteBuf out, Object value) throws IOException {
+                if (value == null) {
+                    out.writeBoolean(false);
+                    return;
+                }
+                out.writeBoolean(true);
+                codec.write(out, value);
+            }
+
+            @Override
+            public Object read(ByteBuf in) throws IOException {
+                if (!in.readBoolean()) {
+                    return null;
+                }
+                return codec.read(in);
+            }
+        };
+    }
+
+    static void writeVarInt(ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(ByteBuf in) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    static void writeVarLong(ByteBuf out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(ByteBuf in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varlong");
+    }
+
+    static void writeZigZagInt(ByteBuf out, int value) {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readZigZagInt(ByteBuf in) {
+        int v = readVarInt(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void writeZigZagLong(ByteBuf out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readZigZagLong(ByteBuf in) {
+        long v = readVarLong(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static final ValueCodec INT = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            writeZigZagInt(out, (Integer) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return readZigZagInt(in);
+        }
+    };
+
+    private static final ValueCodec LONG = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            writeZigZagLong(out, (Long) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return readZigZagLong(in);
+        }
+    };
+
+    private static final ValueCodec SHORT = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            int v = (Short) value;
+            writeVarInt(out, (v << 1) ^ (v >> 31));
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            int v = readVarInt(in);
+            return (short) ((v >>> 1) ^ -(v & 1));
+        }
+    };
+
+    private static final ValueCodec BYTE = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            out.writeByte((Byte) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return in.readByte();
+        }
+    };
+
+    private static final ValueCodec BOOLEAN = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            out.writeBoolean((Boolean) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return in.readBoolean();
+        }
+    };
+
+    private static final ValueCodec CHAR = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            writeVarInt(out, (Character) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return (char) readVarInt(in);
+        }
+    };
+
+    private static final ValueCodec FLOAT = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            out.writeFloat((Float) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return in.readFloat();
+        }
+    };
+
+    private static final ValueCodec DOUBLE = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            out.writeDouble((Double) value);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return in.readDouble();
+        }
+    };
+
+    private static final ValueCodec STRING = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            CharSequence s = (CharSequence) value;
+            writeVarInt(out, ByteBufUtil.utf8Bytes(s));
+            ByteBufUtil.writeUtf8(out, s);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            int length = readVarInt(in);
+            return in.readCharSequence(length, StandardCharsets.UTF_8).toString();
+        }
+    };
+
+    private static final ValueCodec BYTES = new ValueCodec() {
+        @Override
+        public void write(ByteBuf out, Object value) {
+            byte[] bytes = (byte[]) value;
+            writeVarInt(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            byte[] bytes = new byte[readVarInt(in)];
+            in.readBytes(bytes);
+            return bytes;
+        }
+    };
+
+    private static final class EnumCodec implements ValueCodec {
+
+        private final Object[] constants;
+
+        EnumCodec(Class<?> clazz) {
+            this.constants = clazz.getEnumConstants();
+        }
+
+        @Override
+        public void write(ByteBuf out, Object value) {
+            writeVarInt(out, ((Enum<?>) value).ordinal());
+        }
+
+        @Override
+        public Object read(ByteBuf in) {
+            return constants[readVarInt(in)];
+        }
+
+    }
+
+    private static final class CollectionCodec implements ValueCodec {
+
+        private final MethodHandle constructor;
+        private final ValueCodec elementCodec;
+
+        CollectionCodec(MethodHandle constructor, ValueCodec elementCodec) {
+            this.constructor = constructor;
+            this.elementCodec = elementCodec;
+        }
+
+        @Override
+        public void write(ByteBuf out, Object value) throws IOException {
+            Collection<?> collection = (Collection<?>) value;
+            writeVarInt(out, collection.size());
+            for (Object element : collection) {
+                elementCodec.write(out, element);
+            }
+        }
+
+        @Override
+        public Object read(ByteBuf in) throws IOException {
+            int size = readVarInt(in);
+            Collection<Object> collection = (Collection<Object>) newInstance(constructor);
+            for (int i = 0; i < size; i++) {
+                collection.add(elementCodec.read(in));
+            }
+            return collection;
+        }
+
+    }
+
+    private static final class MapCodec implements ValueCodec {
+
+        private final MethodHandle constructor;
+        private final ValueCodec keyCodec;
+        private final ValueCodec valueCodec;
+
+        MapCodec(MethodHandle constructor, ValueCodec keyCodec, ValueCodec valueCodec) {
+            this.constructor = constructor;
+            this.keyCodec = keyCodec;
+            this.valueCodec = valueCodec;
+        }
+
+        @Override
+        public void write(ByteBuf out, Object value) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                keyCodec.write(out, entry.getKey());
+                valueCodec.write(out, entry.getValue());
+            }
+        }
+
+        @Override
+        public Object read(ByteBuf in) throws IOException {
+            int size = readVarInt(in);
+            Map<Object, Object> map = (Map<Object, Object>) newInstance(constructor);
+            for (int i = 0; i < size; i++) {
+                Object key = keyCodec.read(in);
+                map.put(key, valueCodec.read(in));
+            }
+            return map;
+        }
+
+    }
+
+    private abstract static class FieldCodec {
+
+        abstract void write(ByteBuf out, Object target) throws Throwable;
+
+        abstract void read(ByteBuf in, Object target) throws Throwable;
+
+    }
+
+    private static final class IntFieldCodec extends FieldCodec {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        IntFieldCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(int.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+        }
+
+        @Override
+        void write(ByteBuf out, Object target) throws Throwable {
+            writeZigZagInt(out, (int) getter.invokeExact(target));
+        }
+
+        @Override
+        void read(ByteBuf in, Object target) throws Throwable {
+            setter.invokeExact(target, readZigZagInt(in));
+        }
+
+    }
+
+    private static final class LongFieldCodec extends FieldCodec {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        LongFieldCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(long.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+        }
+
+        @Override
+        void write(ByteBuf out, Object target) throws Throwable {
+            writeZigZagLong(out, (long) getter.invokeExact(target));
+        }
+
+        @Override
+        void read(ByteBuf in, Object target) throws Throwable {
+            setter.invokeExact(target, readZigZagLong(in));
+        }
+
+    }
+
+    private static final class DoubleFieldCodec extends FieldCodec {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        DoubleFieldCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(double.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+        }
+
+        @Override
+        void write(ByteBuf out, Object target) throws Throwable {
+            out.writeDouble((double) getter.invokeExact(target));
+        }
+
+        @Override
+        void read(ByteBuf in, Object target) throws Throwable {
+            setter.invokeExact(target, in.readDouble());
+        }
+
+    }
+
+    private static final class FloatFieldCodec extends FieldCodec {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        FloatFieldCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(float.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, float.class));
+        }
+
+        @Override
+        void write(ByteBuf out, Object target) throws Throwable {
+            out.writeFloat((float) getter.invokeExact(target));
+        }
+
+        @Override
+        void read(ByteBuf in, Object target) throws Throwable {
+            setter.invokeExact(target, in.readFloat());
+        }
+
+    }
+
+    private static final class BooleanFieldCodec extends FieldCodec {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        BooleanFieldCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(boolean.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+        }
+
+        @Override
+        void write(ByteBuf out, Object target) throws Throwable {
+            out.writeBoolean((boolean) getter.invokeExact(target));
+        }
+
+        @Override
+        void read(ByteBuf in, Object target) throws Throwable {
+            setter.invokeExact(target, in.readBoolean());
+        }
+
+    }
+
+    private static final class ValueFieldCodec extends FieldCodec {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final ValueCodec codec;
+
+        ValueFieldCodec(MethodHandle getter, MethodHandle setter, ValueCodec codec) {
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            this.codec = codec;
+        }
+
+        @Override
+        void write(ByteBuf out, Object target) throws Throwable {
+            codec.write(out, (Object) getter.invokeExact(target));
+        }
+
+        @Override
+        void read(ByteBuf in, Object target) throws Throwable {
+            setter.invokeExact(target, codec.read(in));
+        }
+
+    }
+
+    private final class ObjectCodec implements ValueCodec {
+
+        private final Class<?> clazz;
+        private final MethodHandle constructor;
+        private final ValueCodec fallback = new FallbackCodec();
+        private FieldCodec[] fieldCodecs;
+
+        ObjectCodec(Class<?> clazz) {
+            this.clazz = clazz;
+            this.constructor = constructor(clazz);
+        }
+
+        void init(Map<Class<?>, ValueCodec> objectCodecs) {
+            List<Field> fields = new ArrayList<>();
+            Deque<Class<?>> hierarchy = new ArrayDeque<>();
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                hierarchy.addFirst(c);
+            }
+            for (Class<?> c : hierarchy) {
+                List<Field> declared = new ArrayList<>();
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    declared.add(field);
+                }
+                // declared fields order isn't defined by JVM
+                declared.sort(Comparator.comparing(Field::getName));
+                fields.addAll(declared);
+            }
+
+            FieldCodec[] fieldCodecs = new FieldCodec[fields.size()];
+            this.fieldCodecs = fieldCodecs;
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                field.setAccessible(true);
+                MethodHandle getter;
+                MethodHandle setter;
+                try {
+                    getter = lookup.unreflectGetter(field);
+                    setter = lookup.unreflectSetter(field);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("Unable to access field " + field, e);
+                }
+
+                Class<?> type = field.getType();
+                if (type == int.class) {
+                    fieldCodecs[i] = new IntFieldCodec(getter, setter);
+                } else if (type == long.class) {
+                    fieldCodecs[i] = new LongFieldCodec(getter, setter);
+                } else if (type == double.class) {
+                    fieldCodecs[i] = new DoubleFieldCodec(getter, setter);
+                } else if (type == float.class) {
+                    fieldCodecs[i] = new FloatFieldCodec(getter, setter);
+                } else if (type == boolean.class) {
+                    fieldCodecs[i] = new BooleanFieldCodec(getter, setter);
+                } else {
+                    ValueCodec codec = createCodec(field.getGenericType(), objectCodecs);
+                    if (!type.isPrimitive()) {
+                        codec = nullable(codec);
+                    }
+                    fieldCodecs[i] = new ValueFieldCodec(getter, setter, codec);
+                }
+            }
+        }
+
+        @Override
+        public void write(ByteBuf out, Object value) throws IOException {
+            // fields of subclass are unknown to this schema
+            if (value.getClass() != clazz) {
+                out.writeBoolean(true);
+                fallback.write(out, value);
+                return;
+            }
+
+            Set<Object> path = WRITE_PATH.get();
+            if (!path.add(value)) {
+                throw new IOException("Object graph of " + clazz + " contains cyclic reference");
+            }
+
+            out.writeBoolean(false);
+            try {
+                for (FieldCodec fieldCodec : fieldCodecs) {
+                    fieldCodec.write(out, value);
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IOException(e);
+            } finally {
+                path.remove(value);
+            }
+        }
+
+        @Override
+        public Object read(ByteBuf in) throws IOException {
+            if (in.readBoolean()) {
+                return fallback.read(in);
+            }
+
+            Object value = newInstance(constructor);
+            try {
+                for (FieldCodec fieldCodec : fieldCodecs) {
+                    fieldCodec.read(in, value);
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IOException(e);
+            }
+            return value;
+        }
+
+    }
+
+    private final class FallbackCodec implements ValueCodec {
+
+        @Override
+        public void write(ByteBuf out, Object value) throws IOException {
+            ByteBuf encoded = fallbackCodec.getValueEncoder().encode(value);
+            try {
+                writeVarInt(out, encoded.readableBytes());
+                out.writeBytes(encoded);
+            } finally {
+                encoded.release();
+            }
+        }
+
+        @Override
+        public Object read(ByteBuf in) throws IOException {
+            int length = readVarInt(in);
+            ByteBuf slice = in.readSlice(length);
+            return fallbackCodec.getValueDecoder().decode(slice, null);
+        }
+
+    }
+
+    private static Object newInstance(MethodHandle constructor) throws IOException {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new IOException(e);
+        }
+    }
+
+    private final Encoder encoder = new Encoder() {
+        @Override
+        public ByteBuf encode(Object in) throws IOException {
+            ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+            try {
+                rootCodec.write(out, in);
+                return out;
+            } catch (IOException | RuntimeException e) {
+                out.release();
+                throw e;
+            }
+        }
+    };
+
+    private final Decoder<Object> decoder = new Decoder<Object>() {
+        @Override
+        public Object decode(ByteBuf buf, State state) throws IOException {
+            return rootCodec.read(buf);
+        }
+    };
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        if (fallbackCodec.getClassLoader() != null) {
+            return fallbackCodec.getClassLoader();
+        }
+        return super.getClassLoader();
+    }
+
+}
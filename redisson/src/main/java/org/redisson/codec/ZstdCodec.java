@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.codec;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zstandard compression codec.
+ * Uses inner <code>Codec</code> to convert object to binary stream.
+ * <code>MarshallingCodec</code> used by default.
+ * <p>
+ * Compression ratio of small values can be improved by dictionary
+ * trained with {@link #trainDictionary(Collection, int)} method.
+ * Each compressed value refers to id of dictionary used to compress it,
+ * so values compressed with previous dictionaries can be decompressed
+ * as long as these dictionaries are added to codec.
+ * Use {@link ZstdDictionaryStore} to share dictionaries between Redisson instances.
+ * <p>
+ * Based on <a href="https://github.com/luben/zstd-jni">https://github.com/luben/zstd-jni</a>
+ *
+ * Fully thread-safe.
+ *
+ * @see org.redisson.codec.MarshallingCodec
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ZstdCodec extends BaseCodec {
+
+    static class Dictionaries {
+
+        final Map<Long, ZstdDictDecompress> decompressors = new ConcurrentHashMap<>();
+        volatile ZstdDictCompress compressor;
+
+    }
+
+    private final Codec innerCodec;
+    private final int level;
+    private final Dictionaries dictionaries;
+
+    public ZstdCodec() {
+        this(new MarshallingCodec());
+    }
+
+    public ZstdCodec(Codec innerCodec) {
+        this(innerCodec, Zstd.defaultCompressionLevel());
+    }
+
+    public ZstdCodec(Codec innerCodec, int level) {
+        this(innerCodec, level, new Dictionaries());
+    }
+
+    ZstdCodec(Codec innerCodec, int level, Dictionaries dictionaries) {
+        this.innerCodec = innerCodec;
+        this.level = level;
+        this.dictionaries = dictionaries;
+    }
+
+    public ZstdCodec(ClassLoader classLoader) {
+        this(new MarshallingCodec(classLoader));
+    }
+
+    public ZstdCodec(ClassLoader classLoader, ZstdCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.innerCodec), codec.level, codec.dictionaries);
+    }
+
+    /**
+     * Trains dictionary using values encoded by inner codec.
+     *
+     * @param samples - sample values
+     * @param dictionarySize - maximum size of dictionary in bytes
+     * @return dictionary
+     * @throws IOException if value can't be encoded
+     */
+    public byte[] trainDictionary(Collection<?> samples, int dictionarySize) throws IOException {
+        byte[][] encoded = new byte[samples.size()][];
+        int samplesSize = 0;
+        int i = 0;
+        for (Object sample : samples) {
+            encoded[i] = toBytes(innerCodec.getValueEncoder().encode(sample));
+            samplesSize += encoded[i].length;
+            i++;
+        }
+
+        ZstdDictTrainer trainer = new ZstdDictTrainer(samplesSize, dictionarySize);
+        for (byte[] bytes : encoded) {
+            trainer.addSample(bytes);
+        }
+        return trainer.trainSamples();
+    }
+
+    /**
+     * Defines dictionary used to compress values.
+     * Dictionary is also added to the list of dictionaries used to decompress values.
+     *
+     * @param dictionary - dictionary
+     */
+    public void useDictionary(byte[] dictionary) {
+        addDictionary(dictionary);
+        dictionaries.compressor = new ZstdDictCompress(dictionary, level);
+    }
+
+    /**
+     * Adds dictionary used to decompress values.
+     *
+     * @param dictionary - dictionary
+     */
+    public void addDictionary(byte[] dictionary) {
+        long id = Zstd.getDictIdFromDict(dictionary);
+        dictionaries.decompressors.putIfAbsent(id, new ZstdDictDecompress(dictionary));
+    }
+
+    private static byte[] toBytes(ByteBuf buf) {
+        try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+
+    private final Decoder<Object> decoder = new Decoder<Object>() {
+        
+        @Override
+        public Object decode(ByteBuf buf, State state) throws IOException {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+
+            int size = (int) Zstd.decompressedSize(bytes);
+            long dictId = Zstd.getDictIdFromFrame(bytes);
+            byte[] result;
+            if (dictId == 0) {
+                result = Zstd.decompress(bytes, size);
+            } else {
+                ZstdDictDecompress dict = dictionaries.decompressors.get(dictId);
+                if (dict == null) {
+                    throw new IOException("Zstd dictionary with id " + dictId + " isn't defined");
+                }
+                result = Zstd.decompress(bytes, dict, size);
+            }
+
+            ByteBuf bf = Unpooled.wrappedBuffer(result);
+            try {
+                return innerCodec.getValueDecoder().decode(bf, state);
+            } finally {
+                bf.release();
+            }
+        }
+    };
+
+    private final Encoder encoder = new Encoder() {
+
+        @Override
+        public ByteBuf encode(Object in) throws IOException {
+            byte[] bytes = toBytes(innerCodec.getValueEncoder().encode(in));
+            ZstdDictCompress dict = dictionaries.compressor;
+            byte[] res;
+            if (dict == null) {
+                res = Zstd.compress(bytes, level);
+            } else {
+                res = Zstd.compress(bytes, dict);
+            }
+            return Unpooled.wrappedBuffer(res);
+        }
+    };
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+    
+}
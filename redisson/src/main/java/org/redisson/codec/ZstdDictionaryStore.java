@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.codec;
+
+import com.github.luben.zstd.Zstd;
+import org.redisson.api.RBucket;
+import org.redisson.api.RMap;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.LongCodec;
+
+import java.util.Map;
+
+/**
+ * Stores Zstandard dictionaries in Redis and shares them
+ * between {@link ZstdCodec} instances of all Redisson clients.
+ * <p>
+ * All saved dictionaries are kept, so values compressed
+ * with previous dictionaries stay readable.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ZstdDictionaryStore {
+
+    private final RMap<Long, byte[]> dictionaries;
+    private final RBucket<Long> currentId;
+    private final RTopic topic;
+
+    public ZstdDictionaryStore(RedissonClient redisson, String name) {
+        this.dictionaries = redisson.getMap(name, new CompositeCodec(LongCodec.INSTANCE, ByteArrayCodec.INSTANCE));
+        this.currentId = redisson.getBucket(name + ":current", LongCodec.INSTANCE);
+        this.topic = redisson.getTopic(name + ":updates", LongCodec.INSTANCE);
+    }
+
+    /**
+     * Saves dictionary and makes it current for all attached codecs.
+     *
+     * @param dictionary - dictionary
+     * @return id of dictionary
+     */
+    public long save(byte[] dictionary) {
+        long id = Zstd.getDictIdFromDict(dictionary);
+        dictionaries.fastPut(id, dictionary);
+        currentId.set(id);
+        topic.publish(id);
+        return id;
+    }
+
+    /**
+     * Loads all stored dictionaries into <code>codec</code>
+     * and subscribes it to dictionary updates.
+     *
+     * @param codec - codec
+     * @return listener id
+     */
+    public int attach(ZstdCodec codec) {
+        int listenerId = topic.addListener(Long.class, (channel, id) -> {
+            byte[] dictionary = dictionaries.get(id);
+            if (dictionary != null) {
+                codec.useDictionary(dictionary);
+            }
+        });
+
+        Long id = currentId.get();
+        for (Map.Entry<Long, byte[]> entry : dictionaries.readAllEntrySet()) {
+            if (entry.getKey().equals(id)) {
+                continue;
+            }
+            codec.addDictionary(entry.getValue());
+        }
+        if (id != null) {
+            byte[] dictionary = dictionaries.get(id);
+            if (dictionary != null) {
+                codec.useDictionary(dictionary);
+            }
+        }
+        return listenerId;
+    }
+
+    /**
+     * Stops dictionary updates delivery for codec attached with defined <code>listenerId</code>.
+     *
+     * @param listenerId - listener id
+     */
+    public void detach(int listenerId) {
+        topic.removeListener(listenerId);
+    }
+
+}
@@ -95,6 +95,18 @@ public class BaseConfig<T extends BaseConfig<T>> {
     
     private boolean tcpNoDelay = true;
 
+    private boolean backgroundConnectionsInit;
+
+    private int connectionsInitConcurrency = 64;
+
+    private boolean adaptiveConnectionPool;
+
+    private int adaptiveConnectionPoolGrowDelay = 10;
+
+    private int sharedConnectionsAmount;
+
+    private SharedConnectionMode sharedConnectionMode = SharedConnectionMode.LEAST_PENDING;
+
     private NameMapper nameMapper = NameMapper.direct();
 
     
@@ -122,6 +134,12 @@ public class BaseConfig<T extends BaseConfig<T>> {
         setKeepAlive(config.isKeepAlive());
         setTcpNoDelay(config.isTcpNoDelay());
         setNameMapper(config.getNameMapper());
+        setBackgroundConnectionsInit(config.isBackgroundConnectionsInit());
+        setConnectionsInitConcurrency(config.getConnectionsInitConcurrency());
+        setAdaptiveConnectionPool(config.isAdaptiveConnectionPool());
+        setAdaptiveConnectionPoolGrowDelay(config.getAdaptiveConnectionPoolGrowDelay());
+        setSharedConnectionsAmount(config.getSharedConnectionsAmount());
+        setSharedConnectionMode(config.getSharedConnectionMode());
     }
 
     /**
@@ -459,6 +477,129 @@ public class BaseConfig<T extends BaseConfig<T>> {
         return (T) this;
     }
 
+    public boolean isBackgroundConnectionsInit() {
+        return backgroundConnectionsInit;
+    }
+
+    /**
+     * Defines whether to establish only one connection per node pool on startup
+     * and initialize remaining connections up to minimum idle size in background.
+     * Reduces startup time against clusters with large amount of nodes.
+     * <p>
+     * Default is <code>false</code>
+     *
+     * @param backgroundConnectionsInit - boolean value
+     * @return config
+     */
+    public T setBackgroundConnectionsInit(boolean backgroundConnectionsInit) {
+        this.backgroundConnectionsInit = backgroundConnectionsInit;
+        return (T) this;
+    }
+
+    public int getConnectionsInitConcurrency() {
+        return connectionsInitConcurrency;
+    }
+
+    /**
+     * Defines maximum amount of connections established concurrently
+     * across all nodes during background connections initialization.
+     * <p>
+     * Default is <code>64</code>
+     *
+     * @see #setBackgroundConnectionsInit(boolean)
+     *
+     * @param connectionsInitConcurrency - amount of connections
+     * @return config
+     */
+    public T setConnectionsInitConcurrency(int connectionsInitConcurrency) {
+        this.connectionsInitConcurrency = connectionsInitConcurrency;
+        return (T) this;
+    }
+
+    public boolean isAdaptiveConnectionPool() {
+        return adaptiveConnectionPool;
+    }
+
+    /**
+     * Enables adaptive sizing of connection pools.
+     * <p>
+     * Pool limit starts with minimum idle size and grows by one connection
+     * each time a command has waited for a free connection longer than
+     * <code>adaptiveConnectionPoolGrowDelay</code>, up to connection pool size.
+     * Limit shrinks back towards minimum idle size if peak usage during
+     * <code>idleConnectionTimeout</code> interval is less than half of limit.
+     * <p>
+     * Default is <code>false</code>
+     *
+     * @param adaptiveConnectionPool - boolean value
+     * @return config
+     */
+    public T setAdaptiveConnectionPool(boolean adaptiveConnectionPool) {
+        this.adaptiveConnectionPool = adaptiveConnectionPool;
+        return (T) this;
+    }
+
+    public int getAdaptiveConnectionPoolGrowDelay() {
+        return adaptiveConnectionPoolGrowDelay;
+    }
+
+    /**
+     * Defines time in milliseconds a command should wait for a free connection
+     * before adaptive connection pool limit is increased.
+     * Short bursts served by existing connections within this time don't grow the pool.
+     * <p>
+     * Default is <code>10</code>
+     *
+     * @see #setAdaptiveConnectionPool(boolean)
+     *
+     * @param adaptiveConnectionPoolGrowDelay - time in milliseconds
+     * @return config
+     */
+    public T setAdaptiveConnectionPoolGrowDelay(int adaptiveConnectionPoolGrowDelay) {
+        this.adaptiveConnectionPoolGrowDelay = adaptiveConnectionPoolGrowDelay;
+        return (T) this;
+    }
+
+    public int getSharedConnectionsAmount() {
+        return sharedConnectionsAmount;
+    }
+
+    /**
+     * Defines amount of shared connections per Redis node.
+     * <p>
+     * If value greater than <code>0</code> then all non-blocking commands
+     * are pipelined through shared connections instead of connections acquired from pool.
+     * Blocking commands, transactions and Pub/Sub commands still use dedicated connections.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param sharedConnectionsAmount - amount of shared connections
+     * @return config
+     */
+    public T setSharedConnectionsAmount(int sharedConnectionsAmount) {
+        this.sharedConnectionsAmount = sharedConnectionsAmount;
+        return (T) this;
+    }
+
+    public SharedConnectionMode getSharedConnectionMode() {
+        return sharedConnectionMode;
+    }
+
+    /**
+     * Defines the way shared connection is selected for a command.
+     * <p>
+     * Default is <code>LEAST_PENDING</code>
+     *
+     * @see #setSharedConnectionsAmount(int)
+     *
+     * @param sharedConnectionMode - shared connection mode
+     * @return config
+     */
+    public T setSharedConnectionMode(SharedConnectionMode sharedConnectionMode) {
+        this.sharedConnectionMode = sharedConnectionMode;
+        return (T) this;
+    }
+
 
     public NameMapper getNameMapper() {
         return nameMapper;
@@ -84,6 +84,12 @@ public class Config {
 
     private int cleanUpKeysAmount = 100;
 
+    private boolean centralizedCleanUp = false;
+
+    private int lockNotificationChannels = 0;
+
+    private boolean virtualThreads = false;
+
     private NettyHook nettyHook = new DefaultNettyHook();
 
     private ConnectionListener connectionListener;
@@ -109,6 +115,9 @@ public class Config {
         setMinCleanUpDelay(oldConf.getMinCleanUpDelay());
         setMaxCleanUpDelay(oldConf.getMaxCleanUpDelay());
         setCleanUpKeysAmount(oldConf.getCleanUpKeysAmount());
+        setCentralizedCleanUp(oldConf.isCentralizedCleanUp());
+        setLockNotificationChannels(oldConf.getLockNotificationChannels());
+        setVirtualThreads(oldConf.isVirtualThreads());
         setUseScriptCache(oldConf.isUseScriptCache());
         setKeepPubSubOrder(oldConf.isKeepPubSubOrder());
         setLockWatchdogTimeout(oldConf.getLockWatchdogTimeout());
@@ -480,6 +489,27 @@ public class Config {
         return executor;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Defines whether to use virtual threads for <code>RTopic</code> listeners,
+     * <code>RRemoteService</code> invocation handlers
+     * and <code>RExecutorService</code> tasks.
+     * Applied only if JDK 21 or higher is detected
+     * and {@link #setExecutor(ExecutorService)} isn't defined.
+     * <p>
+     * Default is <code>false</code>.
+     *
+     * @param virtualThreads - <code>true</code> if virtual threads are used, <code>false</code> otherwise.
+     * @return config
+     */
+    public Config setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     /**
      * Use external EventLoopGroup. EventLoopGroup processes all
      * Netty connection tied to Redis servers. Each EventLoopGroup creates
@@ -551,6 +581,8 @@ public class Config {
      * or handle messages concurrently. 
      * <p>
      * This setting applied only for PubSub messages per channel.
+     * Messages of different channels, including channels matched
+     * by the same pattern, are handled concurrently.
      * <p>
      * Default is <code>true</code>.
      * 
@@ -781,6 +813,53 @@ public class Config {
         return this;
     }
 
+    public boolean isCentralizedCleanUp() {
+        return centralizedCleanUp;
+    }
+
+    /**
+     * Defines whether to use single timer for clean up process of expired entries.
+     * Objects are ordered by the earliest expiration time of their entries.
+     * Only objects with expired entries are processed and their clean up scripts
+     * are executed in batches pipelined per Redis node.
+     * <p>
+     * Applied to JCache, RSetCache, RMapCache, RListMultimapCache, RSetMultimapCache objects.
+     * <p>
+     * Default is <code>false</code>.
+     *
+     * @param centralizedCleanUp - <code>true</code> if single timer is used, <code>false</code> otherwise.
+     * @return config
+     */
+    public Config setCentralizedCleanUp(boolean centralizedCleanUp) {
+        this.centralizedCleanUp = centralizedCleanUp;
+        return this;
+    }
+
+    public int getLockNotificationChannels() {
+        return lockNotificationChannels;
+    }
+
+    /**
+     * Defines amount of shared channels used to deliver unlock notifications of RLock objects.
+     * Lock is mapped to the channel by slot range of its name. Subscription to
+     * shared channel is made once and kept, so waiting for a lock doesn't require
+     * subscribe and unsubscribe round trips.
+     * <p>
+     * Should be the same for all Redisson instances using the same locks.
+     * Applied to RLock objects returned by getLock() method only.
+     * <p>
+     * Set <code>0</code> to use channel per lock.
+     * <p>
+     * Default is <code>0</code>.
+     *
+     * @param lockNotificationChannels - amount of shared channels
+     * @return config
+     */
+    public Config setLockNotificationChannels(int lockNotificationChannels) {
+        this.lockNotificationChannels = lockNotificationChannels;
+        return this;
+    }
+
     public boolean isUseThreadClassLoader() {
         return useThreadClassLoader;
     }
@@ -21,16 +21,23 @@ import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisPubSubConnection;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.config.ReadMode;
+import org.redisson.config.SharedConnectionMode;
 import org.redisson.pubsub.AsyncSemaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Deque;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 
@@ -49,6 +56,21 @@ public class ClientConnectionsEntry {
     private final Deque<RedisConnection> freeConnections = new ConcurrentLinkedDeque<>();
     private final AsyncSemaphore freeConnectionsCounter;
 
+    private final boolean adaptivePool;
+    private final int growDelay;
+    private final int poolMinSize;
+    private final int poolMaxSize;
+    private final AtomicInteger poolSize;
+    private final AtomicInteger peakUsedConnections = new AtomicInteger();
+    private final LongAdder acquiredConnections = new LongAdder();
+    private final LongAdder awaitedConnections = new LongAdder();
+    private final LongAdder acquireWaitTime = new LongAdder();
+
+    private final SharedConnectionMode sharedConnectionMode;
+    private final AtomicReferenceArray<CompletableFuture<RedisConnection>> sharedConnections;
+    private final Map<RedisConnection, AtomicInteger> sharedConnectionsUsage = new ConcurrentHashMap<>();
+    private final AtomicInteger sharedConnectionIndex = new AtomicInteger();
+
     public enum FreezeReason {MANAGER, RECONNECT, SYSTEM}
 
     private volatile FreezeReason freezeReason;
@@ -62,7 +84,23 @@ public class ClientConnectionsEntry {
     public ClientConnectionsEntry(RedisClient client, int poolMinSize, int poolMaxSize, int subscribePoolMinSize, int subscribePoolMaxSize,
             ConnectionManager connectionManager, NodeType nodeType) {
         this.client = client;
-        this.freeConnectionsCounter = new AsyncSemaphore(poolMaxSize);
+        this.adaptivePool = connectionManager.getConfig().isAdaptiveConnectionPool();
+        this.growDelay = connectionManager.getConfig().getAdaptiveConnectionPoolGrowDelay();
+        this.poolMaxSize = poolMaxSize;
+        this.poolMinSize = Math.min(Math.max(poolMinSize, 1), poolMaxSize);
+        int initialSize = poolMaxSize;
+        if (adaptivePool) {
+            initialSize = this.poolMinSize;
+        }
+        this.poolSize = new AtomicInteger(initialSize);
+        this.freeConnectionsCounter = new AsyncSemaphore(initialSize);
+        this.sharedConnectionMode = connectionManager.getConfig().getSharedConnectionMode();
+        int sharedConnectionsAmount = connectionManager.getConfig().getSharedConnectionsAmount();
+        if (sharedConnectionsAmount > 0) {
+            this.sharedConnections = new AtomicReferenceArray<>(sharedConnectionsAmount);
+        } else {
+            this.sharedConnections = null;
+        }
         this.connectionManager = connectionManager;
         this.nodeType = nodeType;
         this.freeSubscribeConnectionsCounter = new AsyncSemaphore(subscribePoolMaxSize);
@@ -73,7 +111,11 @@ public class ClientConnectionsEntry {
                 return allSubscribeConnections.remove(c);
             });
         }
-        connectionManager.getConnectionWatcher().add(this, poolMinSize, poolMaxSize, freeConnections, freeConnectionsCounter, c -> {
+        int idleMinSize = poolMinSize;
+        if (sharedConnections != null) {
+            idleMinSize = 0;
+        }
+        connectionManager.getConnectionWatcher().add(this, idleMinSize, poolSize::get, freeConnections, freeConnectionsCounter, c -> {
                 freeConnections.remove(c);
                 return allConnections.remove(c);
             });
@@ -146,9 +188,236 @@ public class ClientConnectionsEntry {
     }
 
     public CompletableFuture<Void> acquireConnection(RedisCommand<?> command) {
-        return freeConnectionsCounter.acquire();
+        acquiredConnections.increment();
+        CompletableFuture<Void> f = freeConnectionsCounter.acquire();
+        if (f.isDone()) {
+            updatePeakUsage();
+            return f;
+        }
+
+        awaitedConnections.increment();
+        if (adaptivePool) {
+            scheduleGrowPool(f);
+        }
+
+        long startTime = System.nanoTime();
+        f.whenComplete((r, e) -> {
+            acquireWaitTime.add(System.nanoTime() - startTime);
+            updatePeakUsage();
+        });
+        return f;
+    }
+
+    private void updatePeakUsage() {
+        int used = getUsedConnections();
+        peakUsedConnections.accumulateAndGet(used, Math::max);
+    }
+
+    private void scheduleGrowPool(CompletableFuture<Void> f) {
+        if (poolSize.get() >= poolMaxSize) {
+            return;
+        }
+        if (growDelay <= 0) {
+            growPool();
+            return;
+        }
+
+        // connection released within delay serves the waiter without growth
+        connectionManager.newTimeout(t -> {
+            if (!f.isDone()) {
+                growPool();
+            }
+        }, growDelay, TimeUnit.MILLISECONDS);
+    }
+
+    private void growPool() {
+        while (true) {
+            int size = poolSize.get();
+            if (size >= poolMaxSize) {
+                return;
+            }
+            if (poolSize.compareAndSet(size, size + 1)) {
+                freeConnectionsCounter.release();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Shrinks adaptive pool limit if peak usage since previous invocation
+     * is less than half of the limit.
+     */
+    public void shrinkPool() {
+        if (!adaptivePool) {
+            return;
+        }
+
+        int peak = peakUsedConnections.getAndSet(getUsedConnections());
+        int size = poolSize.get();
+        int newSize = Math.max(poolMinSize, peak * 2);
+        if (newSize >= size) {
+            return;
+        }
+
+        if (poolSize.compareAndSet(size, newSize)) {
+            freeConnectionsCounter.removePermits(size - newSize);
+            log.debug("connection pool limit of {} reduced from {} to {}", client.getAddr(), size, newSize);
+        }
+    }
+
+    /**
+     * Returns current limit of connections.
+     * Equals to <code>connectionPoolSize</code> if adaptive pool is disabled.
+     *
+     * @return amount of connections
+     */
+    public int getPoolSize() {
+        return poolSize.get();
+    }
+
+    public int getUsedConnections() {
+        return Math.max(poolSize.get() - freeConnectionsCounter.getCounter(), 0);
+    }
+
+    public long getAcquiredConnections() {
+        return acquiredConnections.sum();
+    }
+
+    /**
+     * Returns amount of connection acquisitions
+     * which have waited for a free connection.
+     *
+     * @return amount of acquisitions
+     */
+    public long getAwaitedConnections() {
+        return awaitedConnections.sum();
+    }
+
+    /**
+     * Returns total time spent waiting for a free connection
+     *
+     * @return time in milliseconds
+     */
+    public long getAcquireWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(acquireWaitTime.sum());
     }
     
+    public boolean isSharedConnectionsEnabled() {
+        return sharedConnections != null;
+    }
+
+    public boolean isSharedConnection(RedisCommand<?> command) {
+        return isSharedConnectionsEnabled()
+                && command != null
+                    && !command.isBlockingCommand();
+    }
+
+    /**
+     * Returns one of shared connections. Connection is created
+     * on first use or if previous one has been closed.
+     * Returned connection should be passed to {@link #releaseSharedConnection(RedisConnection)}
+     * once reply is received.
+     *
+     * @return connection
+     */
+    public CompletableFuture<RedisConnection> getSharedConnection() {
+        int index = nextSharedConnectionIndex();
+        CompletableFuture<RedisConnection> f = sharedConnections.get(index);
+        while (f == null
+                || f.isCompletedExceptionally()
+                    || (f.isDone() && f.join().isClosed())) {
+            CompletableFuture<RedisConnection> newFuture = new CompletableFuture<>();
+            if (sharedConnections.compareAndSet(index, f, newFuture)) {
+                if (f != null && !f.isCompletedExceptionally()) {
+                    sharedConnectionsUsage.computeIfPresent(f.join(), (k, v) -> {
+                        if (v.get() <= 0) {
+                            return null;
+                        }
+                        return v;
+                    });
+                }
+
+                connect().whenComplete((c, e) -> {
+                    if (e != null) {
+                        newFuture.completeExceptionally(e);
+                        return;
+                    }
+
+                    sharedConnectionsUsage.put(c, new AtomicInteger());
+                    newFuture.complete(c);
+                });
+                f = newFuture;
+                break;
+            }
+            f = sharedConnections.get(index);
+        }
+
+        return f.thenApply(c -> {
+            sharedConnectionsUsage.compute(c, (k, v) -> {
+                if (v == null) {
+                    v = new AtomicInteger();
+                }
+                v.incrementAndGet();
+                return v;
+            });
+            return c;
+        });
+    }
+
+    private int nextSharedConnectionIndex() {
+        if (sharedConnectionMode == SharedConnectionMode.ROUND_ROBIN) {
+            return Math.floorMod(sharedConnectionIndex.getAndIncrement(), sharedConnections.length());
+        }
+
+        int index = 0;
+        int minUsage = Integer.MAX_VALUE;
+        for (int i = 0; i < sharedConnections.length(); i++) {
+            CompletableFuture<RedisConnection> f = sharedConnections.get(i);
+            if (f == null || !f.isDone() || f.isCompletedExceptionally()) {
+                return i;
+            }
+
+            AtomicInteger usage = sharedConnectionsUsage.get(f.join());
+            int value = 0;
+            if (usage != null) {
+                value = usage.get();
+            }
+            if (value < minUsage) {
+                minUsage = value;
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Releases connection if it's a shared connection.
+     *
+     * @param connection - connection
+     * @return <code>true</code> if connection is shared and has been released
+     */
+    public boolean releaseSharedConnection(RedisConnection connection) {
+        if (sharedConnections == null) {
+            return false;
+        }
+
+        AtomicInteger usage = sharedConnectionsUsage.get(connection);
+        if (usage == null) {
+            return false;
+        }
+
+        usage.decrementAndGet();
+        if (connection.isClosed()) {
+            sharedConnectionsUsage.computeIfPresent(connection, (k, v) -> {
+                if (v.get() <= 0) {
+                    return null;
+                }
+                return v;
+            });
+        }
+        return true;
+    }
+
     public void releaseConnection() {
         freeConnectionsCounter.release();
     }
@@ -273,7 +542,8 @@ public class ClientConnectionsEntry {
         return "[freeSubscribeConnectionsAmount=" + freeSubscribeConnections.size()
                 + ", freeSubscribeConnectionsCounter=" + freeSubscribeConnectionsCounter
                 + ", freeConnectionsAmount=" + freeConnections.size() + ", freeConnectionsCounter="
-                + freeConnectionsCounter + ", freezeReason=" + freezeReason
+                + freeConnectionsCounter + ", poolSize=" + poolSize + ", acquiredConnections=" + acquiredConnections
+                + ", awaitedConnections=" + awaitedConnections + ", freezeReason=" + freezeReason
                 + ", client=" + client + ", nodeType=" + nodeType + ", firstFail=" + client.getFirstFailTime()
                 + "]";
     }
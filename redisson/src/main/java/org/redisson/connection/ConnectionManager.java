@@ -30,6 +30,7 @@ import org.redisson.config.Config;
 import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.misc.InfinitySemaphoreLatch;
 import org.redisson.misc.RedisURI;
+import org.redisson.pubsub.AsyncSemaphore;
 import org.redisson.pubsub.PublishSubscribeService;
 
 import java.net.InetSocketAddress;
@@ -112,6 +113,8 @@ public interface ConnectionManager {
     Timeout newTimeout(TimerTask task, long delay, TimeUnit unit);
 
     InfinitySemaphoreLatch getShutdownLatch();
+
+    AsyncSemaphore getConnectionsInitSemaphore();
     
     Future<Void> getShutdownPromise();
 
@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 public class IdleConnectionWatcher {
@@ -42,13 +43,18 @@ public class IdleConnectionWatcher {
     public static class Entry {
 
         private final int minimumAmount;
-        private final int maximumAmount;
+        private final IntSupplier maximumAmount;
         private final AsyncSemaphore freeConnectionsCounter;
         private final Collection<? extends RedisConnection> connections;
         private final Function<RedisConnection, Boolean> deleteHandler;
 
         public Entry(int minimumAmount, int maximumAmount, Collection<? extends RedisConnection> connections,
                      AsyncSemaphore freeConnectionsCounter, Function<RedisConnection, Boolean> deleteHandler) {
+            this(minimumAmount, () -> maximumAmount, connections, freeConnectionsCounter, deleteHandler);
+        }
+
+        public Entry(int minimumAmount, IntSupplier maximumAmount, Collection<? extends RedisConnection> connections,
+                     AsyncSemaphore freeConnectionsCounter, Function<RedisConnection, Boolean> deleteHandler) {
             super();
             this.minimumAmount = minimumAmount;
             this.maximumAmount = maximumAmount;
@@ -65,6 +71,7 @@ public class IdleConnectionWatcher {
     public IdleConnectionWatcher(ConnectionManager manager, MasterSlaveServersConfig config) {
         monitorFuture = manager.getGroup().scheduleWithFixedDelay(() -> {
             long currTime = System.nanoTime();
+            entries.keySet().forEach(ClientConnectionsEntry::shrinkPool);
             for (Entry entry : entries.values().stream().flatMap(m -> m.stream()).collect(Collectors.toList())) {
                 if (!validateAmount(entry)) {
                     continue;
@@ -97,7 +104,7 @@ public class IdleConnectionWatcher {
     }
 
     private boolean validateAmount(Entry entry) {
-        return entry.maximumAmount - entry.freeConnectionsCounter.getCounter() + entry.connections.size() > entry.minimumAmount;
+        return entry.maximumAmount.getAsInt() - entry.freeConnectionsCounter.getCounter() + entry.connections.size() > entry.minimumAmount;
     }
 
     public void remove(ClientConnectionsEntry entry) {
@@ -106,6 +113,11 @@ public class IdleConnectionWatcher {
 
     public void add(ClientConnectionsEntry entry, int minimumAmount, int maximumAmount, Collection<? extends RedisConnection> connections,
                     AsyncSemaphore freeConnectionsCounter, Function<RedisConnection, Boolean> deleteHandler) {
+        add(entry, minimumAmount, () -> maximumAmount, connections, freeConnectionsCounter, deleteHandler);
+    }
+
+    public void add(ClientConnectionsEntry entry, int minimumAmount, IntSupplier maximumAmount, Collection<? extends RedisConnection> connections,
+                    AsyncSemaphore freeConnectionsCounter, Function<RedisConnection, Boolean> deleteHandler) {
         List<Entry> list = entries.computeIfAbsent(entry, k -> new ArrayList<>(2));
         list.add(new Entry(minimumAmount, maximumAmount, connections, freeConnectionsCounter, deleteHandler));
     }
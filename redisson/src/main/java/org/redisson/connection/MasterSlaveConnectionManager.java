@@ -46,6 +46,8 @@ import org.redisson.cluster.ClusterSlotRange;
 import org.redisson.config.*;
 import org.redisson.misc.InfinitySemaphoreLatch;
 import org.redisson.misc.RedisURI;
+import org.redisson.misc.VirtualThreads;
+import org.redisson.pubsub.AsyncSemaphore;
 import org.redisson.pubsub.PublishSubscribeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,6 +119,8 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
     private final InfinitySemaphoreLatch shutdownLatch = new InfinitySemaphoreLatch();
 
+    private volatile AsyncSemaphore connectionsInitSemaphore;
+
     private IdleConnectionWatcher connectionWatcher;
 
     private final ConnectionEventsHub connectionEventsHub = new ConnectionEventsHub();
@@ -192,11 +196,27 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         }
         
         if (cfg.getExecutor() == null) {
-            int threads = Runtime.getRuntime().availableProcessors() * 2;
-            if (cfg.getThreads() != 0) {
-                threads = cfg.getThreads();
+            ExecutorService virtualExecutor = null;
+            if (cfg.isVirtualThreads() && VirtualThreads.isSupported()) {
+                try {
+                    virtualExecutor = VirtualThreads.newExecutor("redisson-");
+                } catch (IllegalStateException e) {
+                    // preview API of JDK 19 and 20 isn't available without --enable-preview flag
+                    log.warn("Virtual threads require JDK 21 or higher. Platform threads are used", e);
+                }
+            } else if (cfg.isVirtualThreads()) {
+                log.warn("Virtual threads require JDK 21 or higher. Platform threads are used");
+            }
+
+            if (virtualExecutor != null) {
+                executor = virtualExecutor;
+            } else {
+                int threads = Runtime.getRuntime().availableProcessors() * 2;
+                if (cfg.getThreads() != 0) {
+                    threads = cfg.getThreads();
+                }
+                executor = Executors.newFixedThreadPool(threads, new DefaultThreadFactory("redisson"));
             }
-            executor = Executors.newFixedThreadPool(threads, new DefaultThreadFactory("redisson"));
         } else {
             executor = cfg.getExecutor();
         }
@@ -402,6 +422,12 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         c.setKeepAlive(cfg.isKeepAlive());
         c.setTcpNoDelay(cfg.isTcpNoDelay());
         c.setNameMapper(cfg.getNameMapper());
+        c.setBackgroundConnectionsInit(cfg.isBackgroundConnectionsInit());
+        c.setConnectionsInitConcurrency(cfg.getConnectionsInitConcurrency());
+        c.setAdaptiveConnectionPool(cfg.isAdaptiveConnectionPool());
+        c.setAdaptiveConnectionPoolGrowDelay(cfg.getAdaptiveConnectionPoolGrowDelay());
+        c.setSharedConnectionsAmount(cfg.getSharedConnectionsAmount());
+        c.setSharedConnectionMode(cfg.getSharedConnectionMode());
 
         return c;
     }
@@ -666,6 +692,18 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         return shutdownLatch;
     }
 
+    @Override
+    public AsyncSemaphore getConnectionsInitSemaphore() {
+        if (connectionsInitSemaphore == null) {
+            synchronized (this) {
+                if (connectionsInitSemaphore == null) {
+                    connectionsInitSemaphore = new AsyncSemaphore(config.getConnectionsInitConcurrency());
+                }
+            }
+        }
+        return connectionsInitSemaphore;
+    }
+
     @Override
     public Future<Void> getShutdownPromise() {
         return shutdownPromise;
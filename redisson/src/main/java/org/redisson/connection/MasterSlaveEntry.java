@@ -398,6 +398,10 @@ public class MasterSlaveEntry {
         return slaveBalancer.getEntry(addr);
     }
 
+    public ClientConnectionsEntry getMasterEntry() {
+        return masterEntry;
+    }
+
     public RedisClient getClient() {
         return masterEntry.getClient();
     }
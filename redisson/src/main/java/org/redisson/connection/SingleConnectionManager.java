@@ -64,6 +64,12 @@ public class SingleConnectionManager extends MasterSlaveConnectionManager {
         newconfig.setKeepAlive(cfg.isKeepAlive());
         newconfig.setTcpNoDelay(cfg.isTcpNoDelay());
         newconfig.setNameMapper(cfg.getNameMapper());
+        newconfig.setBackgroundConnectionsInit(cfg.isBackgroundConnectionsInit());
+        newconfig.setConnectionsInitConcurrency(cfg.getConnectionsInitConcurrency());
+        newconfig.setAdaptiveConnectionPool(cfg.isAdaptiveConnectionPool());
+        newconfig.setAdaptiveConnectionPoolGrowDelay(cfg.getAdaptiveConnectionPoolGrowDelay());
+        newconfig.setSharedConnectionsAmount(cfg.getSharedConnectionsAmount());
+        newconfig.setSharedConnectionMode(cfg.getSharedConnectionMode());
         
         return newconfig;
     }
@@ -26,6 +26,7 @@ import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.pubsub.AsyncSemaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,6 +84,61 @@ abstract class ConnectionPool<T extends RedisConnection> {
             return CompletableFuture.completedFuture(null);
         }
 
+        if (config.isBackgroundConnectionsInit() && minimumIdleSize > 1) {
+            CompletableFuture<Void> f = initConnections(entry, checkFreezed, 1);
+            return f.thenAccept(r -> {
+                initConnectionsInBackground(entry, minimumIdleSize - 1, 0);
+            });
+        }
+
+        return initConnections(entry, checkFreezed, minimumIdleSize);
+    }
+
+    private void initConnectionsInBackground(ClientConnectionsEntry entry, int amount, int attempt) {
+        if (amount == 0
+                || entry.isFreezed()
+                    || entry.getClient().isShutdown()
+                        || connectionManager.isShuttingDown()) {
+            return;
+        }
+
+        AsyncSemaphore semaphore = connectionManager.getConnectionsInitSemaphore();
+        semaphore.acquire(() -> {
+            if (connectionManager.isShuttingDown() || !tryAcquireConnection(entry)) {
+                semaphore.release();
+                return;
+            }
+
+            CompletableFuture<Void> f = acquireConnection(entry, null);
+            f.thenAccept(r -> {
+                CompletableFuture<T> promise = new CompletableFuture<T>();
+                createConnection(entry, promise);
+                promise.whenComplete((conn, e) -> {
+                    semaphore.release();
+                    if (e != null) {
+                        // entry permit is already released by promiseFailure()
+                        long delay = config.getRetryInterval() * (1L << Math.min(attempt, 5));
+                        log.warn("Unable to init connection in background for " + entry.getClient().getAddr()
+                                    + ". Next attempt in " + delay + " ms", e);
+                        connectionManager.newTimeout(t -> {
+                            initConnectionsInBackground(entry, amount, attempt + 1);
+                        }, delay, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+
+                    if (changeUsage()) {
+                        conn.decUsage();
+                    }
+                    entry.addConnection(conn);
+                    releaseConnection(entry);
+
+                    initConnectionsInBackground(entry, amount - 1, 0);
+                });
+            });
+        });
+    }
+
+    private CompletableFuture<Void> initConnections(ClientConnectionsEntry entry, boolean checkFreezed, int minimumIdleSize) {
         CompletableFuture<Void> initPromise = new CompletableFuture<>();
         AtomicInteger initializedConnections = new AtomicInteger(minimumIdleSize);
         int startAmount = Math.min(2, minimumIdleSize);
@@ -218,6 +274,10 @@ abstract class ConnectionPool<T extends RedisConnection> {
     }
 
     protected final CompletableFuture<T> acquireConnection(RedisCommand<?> command, ClientConnectionsEntry entry) {
+        if (isSharedConnection(entry, command)) {
+            return acquireSharedConnection(entry);
+        }
+
         CompletableFuture<T> result = new CompletableFuture<T>();
 
         CompletableFuture<Void> f = acquireConnection(entry, command);
@@ -232,6 +292,38 @@ abstract class ConnectionPool<T extends RedisConnection> {
         return result;
     }
         
+    private CompletableFuture<T> acquireSharedConnection(ClientConnectionsEntry entry) {
+        if (!tryAcquireConnection(entry)) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(new RedisConnectionException(
+                    "Unable to acquire shared connection. Redis entry " + entry.getClient().getAddr() + " is disconnected"));
+            return result;
+        }
+
+        CompletableFuture<T> result = (CompletableFuture<T>) entry.getSharedConnection();
+        if (entry.getNodeType() != NodeType.SLAVE) {
+            return result;
+        }
+
+        return result.whenComplete((conn, e) -> {
+            if (e != null) {
+                entry.trySetupFistFail();
+                if (entry.isFailed()) {
+                    checkForReconnect(entry, e);
+                }
+                return;
+            }
+
+            if (conn.isActive()) {
+                entry.resetFirstFail();
+            }
+        });
+    }
+
+    protected boolean isSharedConnection(ClientConnectionsEntry entry, RedisCommand<?> command) {
+        return entry.isSharedConnection(command);
+    }
+
     protected boolean tryAcquireConnection(ClientConnectionsEntry entry) {
         if (entry.getNodeType() == NodeType.SLAVE && entry.isFailed()) {
             checkForReconnect(entry, null);
@@ -404,6 +496,9 @@ abstract class ConnectionPool<T extends RedisConnection> {
             connection.closeAsync();
             return;
         }
+        if (entry.releaseSharedConnection(connection)) {
+            return;
+        }
         if (entry.isFreezed() && entry.getFreezeReason() != FreezeReason.SYSTEM) {
             connection.closeAsync();
             entry.getAllConnections().remove(connection);
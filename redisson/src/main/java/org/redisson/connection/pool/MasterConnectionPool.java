@@ -48,6 +48,10 @@ public class MasterConnectionPool extends ConnectionPool<RedisConnection> {
 
     @Override
     protected int getMinimumIdleSize(ClientConnectionsEntry entry) {
+        if (entry.isSharedConnectionsEnabled()) {
+            // non-blocking commands don't use pooled connections
+            return 0;
+        }
         return config.getMasterConnectionMinimumIdleSize();
     }
 
@@ -47,6 +47,11 @@ public class PubSubConnectionPool extends ConnectionPool<RedisPubSubConnection>
         return entry.pollSubscribeConnection();
     }
 
+    @Override
+    protected boolean isSharedConnection(ClientConnectionsEntry entry, RedisCommand<?> command) {
+        return false;
+    }
+
     @Override
     protected int getMinimumIdleSize(ClientConnectionsEntry entry) {
         return config.getSubscriptionConnectionMinimumIdleSize();
@@ -35,6 +35,10 @@ public class SlaveConnectionPool extends ConnectionPool<RedisConnection> {
     }
 
     protected int getMinimumIdleSize(ClientConnectionsEntry entry) {
+        if (entry.isSharedConnectionsEnabled()) {
+            // non-blocking commands don't use pooled connections
+            return 0;
+        }
         return config.getSlaveConnectionMinimumIdleSize();
     }
 
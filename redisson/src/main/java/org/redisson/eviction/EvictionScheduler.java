@@ -15,34 +15,75 @@
  */
 package org.redisson.eviction;
 
+import io.netty.util.Timeout;
+import org.redisson.api.RFuture;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.command.CommandBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-
-import org.redisson.command.CommandAsyncExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Eviction scheduler.
  * Deletes expired entries in time interval between 5 seconds to 2 hours.
  * It analyzes deleted amount of expired keys
  * and 'tune' next execution delay depending on it.
+ * <p>
+ * In centralized mode all tasks share a single timer and an index ordered
+ * by the earliest expiration time of each object. Only objects with due entries
+ * are cleaned up and their scripts are sent in one batch pipelined per node.
  *
  * @author Nikita Koksharov
  *
  */
 public class EvictionScheduler {
 
+    private static final Logger log = LoggerFactory.getLogger(EvictionScheduler.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final class IndexEntry implements Comparable<IndexEntry> {
+
+        private final EvictionTask task;
+        private final long time;
+
+        IndexEntry(EvictionTask task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(IndexEntry o) {
+            return Long.compare(time, o.time);
+        }
+
+    }
+
     private final ConcurrentMap<String, EvictionTask> tasks = new ConcurrentHashMap<>();
     private final CommandAsyncExecutor executor;
+    private final boolean centralized;
+
+    private final PriorityQueue<IndexEntry> index = new PriorityQueue<>();
+    private Timeout timeout;
+    private long timeoutTime;
 
     public EvictionScheduler(CommandAsyncExecutor executor) {
         this.executor = executor;
+        this.centralized = executor.getConnectionManager().getCfg().isCentralizedCleanUp();
     }
 
     public void scheduleCleanMultimap(String name, String timeoutSetName) {
         EvictionTask task = new MultimapEvictionTask(name, timeoutSetName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
     
@@ -50,7 +91,7 @@ public class EvictionScheduler {
         EvictionTask task = new JCacheEvictionTask(name, timeoutSetName, expiredChannelName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
 
@@ -58,7 +99,7 @@ public class EvictionScheduler {
         EvictionTask task = new TimeSeriesEvictionTask(name, timeoutSetName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
 
@@ -66,7 +107,7 @@ public class EvictionScheduler {
         EvictionTask task = new ScoredSetEvictionTask(name, executor, shiftInMilliseconds);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
 
@@ -74,7 +115,7 @@ public class EvictionScheduler {
         EvictionTask task = new MapCacheEvictionTask(name, timeoutSetName, maxIdleSetName, expiredChannelName, lastAccessTimeSetName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
 
@@ -84,5 +125,114 @@ public class EvictionScheduler {
             task.getScheduledFuture().cancel(false);
         }
     }
+
+    private void schedule(EvictionTask task) {
+        if (!centralized) {
+            task.schedule();
+            return;
+        }
+
+        enqueue(task, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(task.delay));
+    }
+
+    private void enqueue(EvictionTask task, long time) {
+        synchronized (index) {
+            index.add(new IndexEntry(task, time));
+            scheduleTimer();
+        }
+    }
+
+    private void scheduleTimer() {
+        IndexEntry head = index.peek();
+        if (head == null) {
+            return;
+        }
+        if (timeout != null && !timeout.isExpired() && timeoutTime <= head.time) {
+            return;
+        }
+        if (timeout != null) {
+            timeout.cancel();
+        }
+
+        long delay = Math.max(0, head.time - System.currentTimeMillis());
+        timeoutTime = head.time;
+        timeout = executor.getConnectionManager().newTimeout(t -> runDueTasks(), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void runDueTasks() {
+        if (executor.getConnectionManager().isShuttingDown()) {
+            return;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        List<EvictionTask> dueTasks = new ArrayList<>();
+        synchronized (index) {
+            timeout = null;
+            while (dueTasks.size() < BATCH_SIZE) {
+                IndexEntry head = index.peek();
+                if (head == null || head.time > currentTime) {
+                    break;
+                }
+                index.poll();
+                if (tasks.get(head.task.getName()) == head.task) {
+                    dueTasks.add(head.task);
+                }
+            }
+        }
+
+        if (dueTasks.isEmpty()) {
+            synchronized (index) {
+                scheduleTimer();
+            }
+            return;
+        }
+
+        CommandBatchService batch = new CommandBatchService(executor);
+        List<CompletableFuture<Integer>> sizeFutures = new ArrayList<>(dueTasks.size());
+        List<CompletableFuture<Long>> timeFutures = new ArrayList<>(dueTasks.size());
+        for (EvictionTask task : dueTasks) {
+            RFuture<Integer> sizeFuture = task.execute(batch);
+            sizeFutures.add(sizeFuture.toCompletableFuture());
+            RFuture<Long> timeFuture = task.getNextExpirationTime(batch);
+            timeFutures.add(timeFuture.toCompletableFuture());
+        }
+
+        batch.executeAsync().whenComplete((r, e) -> {
+            long now = System.currentTimeMillis();
+            synchronized (index) {
+                for (int i = 0; i < dueTasks.size(); i++) {
+                    EvictionTask task = dueTasks.get(i);
+                    long nextTime = now + TimeUnit.SECONDS.toMillis(task.minDelay);
+                    if (e == null) {
+                        nextTime = getNextRunTime(task, sizeFutures.get(i), timeFutures.get(i), now);
+                    } else {
+                        log.error("Unable to evict elements for '" + task.getName() + "'", e);
+                    }
+                    index.add(new IndexEntry(task, nextTime));
+                }
+                scheduleTimer();
+            }
+        });
+    }
+
+    private long getNextRunTime(EvictionTask task, CompletableFuture<Integer> sizeFuture,
+                                CompletableFuture<Long> timeFuture, long now) {
+        long minTime = now + TimeUnit.SECONDS.toMillis(task.minDelay);
+        long maxTime = now + TimeUnit.SECONDS.toMillis(task.maxDelay);
+        if (sizeFuture.isCompletedExceptionally() || timeFuture.isCompletedExceptionally()) {
+            return minTime;
+        }
+
+        Integer size = sizeFuture.getNow(null);
+        Long expirationTime = timeFuture.getNow(null);
+        log.debug("{} elements evicted. Object name: {}", size, task.getName());
+        if (size != null && size >= task.keysLimit) {
+            return minTime;
+        }
+        if (expirationTime == null || expirationTime == -1) {
+            return maxTime;
+        }
+        return Math.min(maxTime, Math.max(minTime, expirationTime));
+    }
     
 }
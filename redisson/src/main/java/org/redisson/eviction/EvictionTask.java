@@ -17,10 +17,13 @@ package org.redisson.eviction;
 
 import io.netty.util.concurrent.ScheduledFuture;
 import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.concurrent.TimeUnit;
@@ -61,7 +64,36 @@ abstract class EvictionTask implements Runnable {
         return scheduledFuture;
     }
 
-    abstract RFuture<Integer> execute();
+    RFuture<Integer> execute() {
+        return execute(executor);
+    }
+
+    abstract RFuture<Integer> execute(CommandAsyncExecutor executor);
+
+    /**
+     * Returns the earliest expiration time of entries
+     * or <code>-1</code> if there are no entries to expire.
+     *
+     * @param executor - command executor
+     * @return expiration time in milliseconds
+     */
+    abstract RFuture<Long> getNextExpirationTime(CommandAsyncExecutor executor);
+
+    RFuture<Long> getFirstScore(CommandAsyncExecutor executor, String name, long shiftInMilliseconds, String... setNames) {
+        return executor.evalReadAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local result = -1; "
+              + "for i, key in ipairs(KEYS) do "
+                  + "local head = redis.call('zrange', key, 0, 0, 'withscores'); "
+                  + "if #head == 2 then "
+                      + "local score = tonumber(head[2]) + tonumber(ARGV[1]); "
+                      + "if result == -1 or score < result then "
+                          + "result = score; "
+                      + "end; "
+                  + "end; "
+              + "end; "
+              + "return result;",
+              Arrays.<Object>asList((Object[]) setNames), shiftInMilliseconds);
+    }
     
     abstract String getName();
     
@@ -54,7 +54,12 @@ public class MapCacheEvictionTask extends EvictionTask {
     }
     
     @Override
-    RFuture<Integer> execute() {
+    RFuture<Long> getNextExpirationTime(CommandAsyncExecutor executor) {
+        return getFirstScore(executor, name, 0, timeoutSetName, maxIdleSetName);
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         int latchExpireTime = Math.min(delay, 30);
         return executor.evalWriteNoRetryAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
                 "if redis.call('setnx', KEYS[6], ARGV[4]) == 0 then "
@@ -42,7 +42,12 @@ public class ScoredSetEvictionTask extends EvictionTask {
     }
     
     @Override
-    RFuture<Integer> execute() {
+    RFuture<Long> getNextExpirationTime(CommandAsyncExecutor executor) {
+        return getFirstScore(executor, name, shiftInMilliseconds, name);
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         return executor.writeAsync(name, LongCodec.INSTANCE, RedisCommands.ZREMRANGEBYSCORE, name, 0, System.currentTimeMillis() - shiftInMilliseconds);
     }
     
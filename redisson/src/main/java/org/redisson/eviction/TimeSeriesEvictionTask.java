@@ -39,7 +39,12 @@ public class TimeSeriesEvictionTask extends EvictionTask {
     }
 
     @Override
-    RFuture<Integer> execute() {
+    RFuture<Long> getNextExpirationTime(CommandAsyncExecutor executor) {
+        return getFirstScore(executor, name, 0, timeoutSetName);
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
                 "local expiredKeys = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
               + "if #expiredKeys > 0 then "
@@ -30,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -91,6 +92,45 @@ public class RedissonExecutorRemoteService extends RedissonRemoteService {
         requestId, System.currentTimeMillis(), RedissonExecutorService.SHUTDOWN_STATE, RedissonExecutorService.TERMINATED_STATE);
     }
 
+    @Override
+    protected RFuture<List<RemoteServiceRequest>> getTasks(List<String> requestIds, RMap<String, RemoteServiceRequest> tasks) {
+        List<Object> params = new ArrayList<>(requestIds.size() + 3);
+        params.add(System.currentTimeMillis());
+        params.add(RedissonExecutorService.SHUTDOWN_STATE);
+        params.add(RedissonExecutorService.TERMINATED_STATE);
+        params.addAll(requestIds);
+
+        return commandExecutor.evalWriteNoRetryAsync(((RedissonObject) tasks).getRawName(), codec, RedisCommands.EVAL_LIST,
+                "local result = {}; "
+              + "for i = 4, #ARGV, 1 do "
+                  + "local value = redis.call('zscore', KEYS[2], ARGV[i]); "
+                  + "if (value ~= false and tonumber(value) < tonumber(ARGV[1])) then "
+                      + "redis.call('zrem', KEYS[2], ARGV[i]); "
+
+                      + "redis.call('zrem', KEYS[7], ARGV[i]); "
+                      + "redis.call('zrem', KEYS[7], 'ff' .. ARGV[i]);"
+
+                      + "redis.call('hdel', KEYS[1], ARGV[i]); "
+                      + "if redis.call('decr', KEYS[3]) == 0 then "
+                          + "redis.call('del', KEYS[3]);"
+                          + "if redis.call('get', KEYS[4]) == ARGV[2] then "
+                              + "redis.call('del', KEYS[5]);"
+                              + "redis.call('set', KEYS[4], ARGV[3]);"
+                              + "redis.call('publish', KEYS[6], ARGV[3]);"
+                          + "end;"
+                      + "end;"
+
+                      + "table.insert(result, false); "
+                  + "else "
+                      + "table.insert(result, redis.call('hget', KEYS[1], ARGV[i])); "
+                  + "end; "
+              + "end; "
+              + "return result;",
+        Arrays.asList(((RedissonObject) tasks).getRawName(), tasksExpirationTimeName, tasksCounterName, statusName,
+                            tasksRetryIntervalName, terminationTopicName, schedulerQueueName),
+        params.toArray());
+    }
+
     @Override
     protected <T> void invokeMethod(RemoteServiceRequest request, RemoteServiceMethod method,
                                     CompletableFuture<RemoteServiceCancelRequest> cancelRequestFuture,
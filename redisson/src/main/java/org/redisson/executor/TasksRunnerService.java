@@ -41,12 +41,18 @@ import java.io.ObjectInput;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor service runs Callable and Runnable tasks.
@@ -75,6 +81,9 @@ public class TasksRunnerService implements RemoteExecutorService {
 
     private TasksInjector tasksInjector;
     private ConcurrentMap<String, ResponseEntry> responses;
+
+    private final Queue<FinishedTask> finishedTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean finishing = new AtomicBoolean();
     
     public TasksRunnerService(CommandAsyncExecutor commandExecutor, RedissonClient redisson, Codec codec, String name, ConcurrentMap<String, ResponseEntry> responses) {
         this.commandExecutor = commandExecutor;
@@ -368,6 +377,9 @@ public class TasksRunnerService implements RemoteExecutorService {
      * <p>
      * If <code>scheduledRequestId</code> is not null then
      * delete scheduled task
+     * <p>
+     * Tasks finished by concurrent workers while previous update is in progress
+     * are written together in a single script call.
      * 
      * @param requestId
      */
@@ -376,28 +388,94 @@ public class TasksRunnerService implements RemoteExecutorService {
             return;
         }
 
-        String script = "";
-        if (removeTask) {
-           script +=  "local scheduled = redis.call('zscore', KEYS[5], ARGV[3]);"
-                    + "if scheduled == false then "
-                        + "redis.call('hdel', KEYS[4], ARGV[3]); "
-                    + "end;";
+        FinishedTask task = new FinishedTask(requestId, removeTask);
+        finishedTasks.add(task);
+        flushFinishedTasks();
+        commandExecutor.get(task.getFuture());
+    }
+
+    private void flushFinishedTasks() {
+        if (!finishing.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<FinishedTask> tasks = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        params.add(RedissonExecutorService.SHUTDOWN_STATE);
+        params.add(RedissonExecutorService.TERMINATED_STATE);
+        FinishedTask task;
+        while ((task = finishedTasks.poll()) != null) {
+            tasks.add(task);
+            params.add(task.getRequestId());
+            params.add(task.isRemoveTask() ? 1 : 0);
+        }
+
+        if (tasks.isEmpty()) {
+            finishing.set(false);
+            if (!finishedTasks.isEmpty()) {
+                flushFinishedTasks();
+            }
+            return;
         }
-        script += "redis.call('zrem', KEYS[5], 'ff' .. ARGV[3]);" +
-                  "if redis.call('decr', KEYS[1]) == 0 then "
-                   + "redis.call('del', KEYS[1]);"
-                    + "if redis.call('get', KEYS[2]) == ARGV[1] then "
-                        + "redis.call('del', KEYS[6]);"
-                        + "redis.call('set', KEYS[2], ARGV[2]);"
-                        + "redis.call('publish', KEYS[3], ARGV[2]);"
-                    + "end;"
-                + "end;";  
 
         RFuture<Object> f = commandExecutor.evalWriteNoRetryAsync(name, StringCodec.INSTANCE, RedisCommands.EVAL_VOID,
-                script,
+                "for i = 3, #ARGV, 2 do "
+                  + "if ARGV[i+1] == '1' then "
+                      + "local scheduled = redis.call('zscore', KEYS[5], ARGV[i]);"
+                      + "if scheduled == false then "
+                          + "redis.call('hdel', KEYS[4], ARGV[i]); "
+                      + "end;"
+                  + "end;"
+                  + "redis.call('zrem', KEYS[5], 'ff' .. ARGV[i]);"
+                  + "if redis.call('decr', KEYS[1]) == 0 then "
+                      + "redis.call('del', KEYS[1]);"
+                      + "if redis.call('get', KEYS[2]) == ARGV[1] then "
+                          + "redis.call('del', KEYS[6]);"
+                          + "redis.call('set', KEYS[2], ARGV[2]);"
+                          + "redis.call('publish', KEYS[3], ARGV[2]);"
+                      + "end;"
+                  + "end;"
+              + "end;",
                 Arrays.asList(tasksCounterName, statusName, terminationTopicName, tasksName, schedulerQueueName, tasksRetryIntervalName),
-                RedissonExecutorService.SHUTDOWN_STATE, RedissonExecutorService.TERMINATED_STATE, requestId);
-        commandExecutor.get(f);
+                params.toArray());
+        f.whenComplete((r, e) -> {
+            for (FinishedTask t : tasks) {
+                if (e != null) {
+                    t.getFuture().completeExceptionally(e);
+                } else {
+                    t.getFuture().complete(null);
+                }
+            }
+
+            finishing.set(false);
+            if (!finishedTasks.isEmpty()) {
+                flushFinishedTasks();
+            }
+        });
+    }
+
+    private static final class FinishedTask {
+
+        private final String requestId;
+        private final boolean removeTask;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        FinishedTask(String requestId, boolean removeTask) {
+            this.requestId = requestId;
+            this.removeTask = removeTask;
+        }
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public boolean isRemoveTask() {
+            return removeTask;
+        }
+
+        public CompletableFuture<Void> getFuture() {
+            return future;
+        }
     }
 
 }
@@ -34,6 +34,7 @@ import org.redisson.iterator.RedissonBaseMapIterator;
 import org.redisson.jcache.JMutableEntry.Action;
 import org.redisson.jcache.configuration.JCacheConfiguration;
 import org.redisson.misc.CompletableFutureWrapper;
+import org.redisson.misc.CompositeIterable;
 import org.redisson.misc.Hash;
 import org.redisson.reactive.ReactiveProxyBuilder;
 import org.redisson.rx.RxProxyBuilder;
@@ -54,6 +55,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -78,6 +80,12 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
     private boolean closed;
     private boolean hasOwnRedisson;
 
+    /*
+     * Names of hashes used to store entries in partitioned mode.
+     * Each partition is located in own hash slot.
+     */
+    private final List<String> partitionNames;
+
     /*
      * No locking required in atomic execution mode.
      */
@@ -106,13 +114,65 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
         this.cacheManager = cacheManager;
         this.config = config;
 
-        redisson.getEvictionScheduler().scheduleJCache(getRawName(), getTimeoutSetName(), getExpiredChannelName());
+        int partitions = 1;
+        if (atomicExecution) {
+            partitions = config.getPartitions();
+        }
+        partitionNames = new ArrayList<>(partitions);
+        if (partitions > 1) {
+            for (int i = 0; i < partitions; i++) {
+                partitionNames.add(getRawName() + ":" + i);
+            }
+        }
+
+        if (isPartitioned()) {
+            for (String name : partitionNames) {
+                redisson.getEvictionScheduler().scheduleJCache(name, getTimeoutSetName(name), getExpiredChannelName(name));
+            }
+        } else {
+            redisson.getEvictionScheduler().scheduleJCache(getRawName(), getTimeoutSetName(), getExpiredChannelName());
+        }
 
         for (CacheEntryListenerConfiguration<K, V> listenerConfig : config.getCacheEntryListenerConfigurations()) {
             registerCacheEntryListener(listenerConfig, false);
         }
     }
 
+    boolean isPartitioned() {
+        return !partitionNames.isEmpty();
+    }
+
+    @Override
+    protected String getRawName(Object key) {
+        if (!isPartitioned()) {
+            return getRawName();
+        }
+
+        ByteBuf keyState = encodeMapKey(key);
+        try {
+            int index = (int) Math.floorMod(Hash.hash64(keyState), (long) partitionNames.size());
+            return partitionNames.get(index);
+        } finally {
+            keyState.release();
+        }
+    }
+
+    <T> Map<String, List<T>> groupByPartition(Collection<T> keys) {
+        Map<String, List<T>> result = new HashMap<>();
+        for (T key : keys) {
+            String name = getRawName(key);
+            result.computeIfAbsent(name, k -> new ArrayList<>()).add(key);
+        }
+        return result;
+    }
+
+    List<String> getPartitionedNames(String name, Function<String, String> mapper) {
+        if (!isPartitioned()) {
+            return Collections.singletonList(name);
+        }
+        return partitionNames.stream().map(mapper).collect(Collectors.toList());
+    }
+
     void checkNotClosed() {
         if (closed) {
             throw new IllegalStateException();
@@ -175,6 +235,10 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
         return "jcache_expired_channel:{" + getRawName() + "}";
     }
 
+    String getExpiredChannelName(String name) {
+        return prefixName("jcache_expired_channel", name);
+    }
+
     String getRemovedChannelName(String name) {
         return prefixName("jcache_removed_channel", name);
     }
@@ -539,6 +603,22 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
 
 
     RFuture<Long> putAllValues(Map<? extends K, ? extends V> map) {
+        if (isPartitioned()) {
+            Map<String, Map<K, V>> groups = new HashMap<>();
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                String name = getRawName(entry.getKey());
+                groups.computeIfAbsent(name, k -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+            }
+
+            List<CompletableFuture<Long>> futures = new ArrayList<>(groups.size());
+            for (Map.Entry<String, Map<K, V>> entry : groups.entrySet()) {
+                double syncId = ThreadLocalRandom.current().nextDouble();
+                RFuture<List<Object>> res = putAllOperation(commandExecutor, syncId, null, entry.getKey(), entry.getValue());
+                futures.add(handlePutAllResult(syncId, res).toCompletableFuture());
+            }
+            return sum(futures);
+        }
+
         double syncId = ThreadLocalRandom.current().nextDouble();
         RFuture<List<Object>> res = putAllOperation(commandExecutor, syncId, null, getRawName(), map);
 
@@ -546,6 +626,12 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
         return result;
     }
 
+    private RFuture<Long> sum(List<CompletableFuture<Long>> futures) {
+        CompletableFuture<Long> f = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(r -> futures.stream().mapToLong(CompletableFuture::join).sum());
+        return new CompletableFutureWrapper<>(f);
+    }
+
     RFuture<Long> handlePutAllResult(double syncId, CompletionStage<List<Object>> res) {
         if (atomicExecution) {
             CompletionStage<Long> f = res.thenCompose(r -> {
@@ -937,6 +1023,30 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
         long startTime = currentNanoTime();
         Long accessTimeout = getAccessTimeout();
 
+        if (isPartitioned()) {
+            Map<String, List<Object>> groups = groupByPartition((Collection<Object>) keys);
+            List<CompletableFuture<Map<K, V>>> futures = new ArrayList<>(groups.size());
+            for (Map.Entry<String, List<Object>> entry : groups.entrySet()) {
+                List<Object> args = new ArrayList<>(entry.getValue().size() + 2);
+                args.add(accessTimeout);
+                args.add(System.currentTimeMillis());
+                encodeMapKeys(args, entry.getValue());
+
+                RFuture<Map<K, V>> f = getAllOperation(commandExecutor, entry.getKey(), null, entry.getValue(), accessTimeout, args);
+                futures.add(f.toCompletableFuture());
+            }
+
+            CompletableFuture<Map<K, V>> res = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .thenApply(r -> {
+                        Map<K, V> map = new HashMap<>();
+                        for (CompletableFuture<Map<K, V>> f : futures) {
+                            map.putAll(f.join());
+                        }
+                        return map;
+                    });
+            return handleGetAllResult(startTime, new CompletableFutureWrapper<>(res));
+        }
+
         List<Object> args = new ArrayList<>(keys.size() + 2);
         args.add(accessTimeout);
         args.add(System.currentTimeMillis());
@@ -1299,6 +1409,19 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
     }
 
     RFuture<Long> removeValues(Object... keys) {
+        if (isPartitioned()) {
+            Map<String, List<Object>> groups = groupByPartition(Arrays.asList(keys));
+            List<CompletableFuture<Long>> futures = new ArrayList<>(groups.size());
+            for (Map.Entry<String, List<Object>> entry : groups.entrySet()) {
+                List<Object> params = new ArrayList<>(entry.getValue().size() + 1);
+                params.add(System.currentTimeMillis());
+                encodeMapKeys(params, entry.getValue());
+                RFuture<Long> f = removeValuesOperation(commandExecutor, entry.getKey(), null, params, null);
+                futures.add(f.toCompletableFuture());
+            }
+            return sum(futures);
+        }
+
         List<Object> params = new ArrayList<>(keys.length + 1);
         params.add(System.currentTimeMillis());
         encodeMapKeys(params, Arrays.asList(keys));
@@ -2042,9 +2165,29 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
     }
 
     CompletionStage<Map<K, V>> getAndRemoveValues(Collection<K> keys) {
+        if (isPartitioned()) {
+            Map<String, List<K>> groups = groupByPartition(keys);
+            List<CompletableFuture<Map<K, V>>> futures = new ArrayList<>(groups.size());
+            for (Map.Entry<String, List<K>> entry : groups.entrySet()) {
+                futures.add(getAndRemoveValues(entry.getKey(), entry.getValue()).toCompletableFuture());
+            }
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .thenApply(r -> {
+                        Map<K, V> map = new HashMap<>();
+                        for (CompletableFuture<Map<K, V>> f : futures) {
+                            map.putAll(f.join());
+                        }
+                        return map;
+                    });
+        }
+
+        return getAndRemoveValues(getRawName(), keys);
+    }
+
+    private CompletionStage<Map<K, V>> getAndRemoveValues(String name, Collection<K> keys) {
         double syncId = ThreadLocalRandom.current().nextDouble();
 
-        RFuture<List<Object>> future = getAndRemoveValuesOperation(commandExecutor, null, getRawName(), (Collection<Object>) keys, syncId);
+        RFuture<List<Object>> future = getAndRemoveValuesOperation(commandExecutor, null, name, (Collection<Object>) keys, syncId);
 
         if (atomicExecution) {
             return future.thenCompose(r -> {
@@ -2746,13 +2889,13 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
     }
 
     private void incrementOldValueListenerCounter(String counterName) {
-        evalWrite(getRawName(), codec, RedisCommands.EVAL_INTEGER,
+        evalWrite(counterName, codec, RedisCommands.EVAL_INTEGER,
                 "return redis.call('incr', KEYS[1]);",
                 Arrays.<Object>asList(counterName));
     }
 
     private void decrementOldValueListenerCounter(String counterName) {
-        evalWrite(getRawName(), codec, RedisCommands.EVAL_INTEGER,
+        evalWrite(counterName, codec, RedisCommands.EVAL_INTEGER,
                 "return redis.call('decr', KEYS[1]);",
                 Arrays.<Object>asList(counterName));
     }
@@ -2949,6 +3092,17 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
     }
 
     Iterator<K> keyIterator() {
+        if (isPartitioned()) {
+            List<Iterable<K>> iterables = new ArrayList<>(partitionNames.size());
+            for (String name : partitionNames) {
+                iterables.add(() -> keyIterator(name));
+            }
+            return new CompositeIterable<>(iterables).iterator();
+        }
+        return keyIterator(getRawName());
+    }
+
+    private Iterator<K> keyIterator(String name) {
         return new RedissonBaseMapIterator<K>() {
             @Override
             protected K getValue(Map.Entry<Object, Object> entry) {
@@ -2968,7 +3122,7 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
             @Override
             protected ScanResult<Map.Entry<Object, Object>> iterator(RedisClient client,
                                                                      long nextIterPos) {
-                return JCache.this.scanIterator(JCache.this.getRawName(), client, nextIterPos);
+                return JCache.this.scanIterator(name, client, nextIterPos);
             }
         };
     }
@@ -2999,6 +3153,14 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
 
     @Override
     public RFuture<Void> clearAsync() {
+        if (isPartitioned()) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(partitionNames.size());
+            for (String name : partitionNames) {
+                futures.add(clearAsync(commandExecutor, null, name).toCompletableFuture());
+            }
+            CompletableFuture<Void> f = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+            return new CompletableFutureWrapper<>(f);
+        }
         return clearAsync(commandExecutor, null, getRawName());
     }
 
@@ -3179,13 +3341,12 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
         final boolean sync = cacheEntryListenerConfiguration.isSynchronous();
 
         if (CacheEntryRemovedListener.class.isAssignableFrom(listener.getClass())) {
-            String channelName = getRemovedChannelName();
+            List<String> channelNames = getPartitionedNames(getRemovedChannelName(), this::getRemovedChannelName);
             if (sync) {
-                channelName = getRemovedSyncChannelName();
+                channelNames = getPartitionedNames(getRemovedSyncChannelName(), this::getRemovedSyncChannelName);
             }
 
-            RTopic topic = redisson.getTopic(channelName, new JCacheEventCodec(codec, osType, sync));
-            int listenerId = topic.addListener(List.class, new MessageListener<List<Object>>() {
+            addListener(values, channelNames, new JCacheEventCodec(codec, osType, sync), new MessageListener<List<Object>>() {
                 @Override
                 public void onMessage(CharSequence channel, List<Object> msg) {
                     JCacheEntryEvent<K, V> event = new JCacheEntryEvent<K, V>(JCache.this, EventType.REMOVED, msg.get(0), msg.get(1), msg.get(1));
@@ -3199,16 +3360,14 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
                     }
                 }
             });
-            values.put(listenerId, channelName);
         }
         if (CacheEntryCreatedListener.class.isAssignableFrom(listener.getClass())) {
-            String channelName = getCreatedChannelName();
+            List<String> channelNames = getPartitionedNames(getCreatedChannelName(), this::getCreatedChannelName);
             if (sync) {
-                channelName = getCreatedSyncChannelName();
+                channelNames = getPartitionedNames(getCreatedSyncChannelName(), this::getCreatedSyncChannelName);
             }
 
-            RTopic topic = redisson.getTopic(channelName, new JCacheEventCodec(codec, osType, sync));
-            int listenerId = topic.addListener(List.class, new MessageListener<List<Object>>() {
+            addListener(values, channelNames, new JCacheEventCodec(codec, osType, sync), new MessageListener<List<Object>>() {
                 @Override
                 public void onMessage(CharSequence channel, List<Object> msg) {
                     JCacheEntryEvent<K, V> event = new JCacheEntryEvent<K, V>(JCache.this, EventType.CREATED, msg.get(0), msg.get(1));
@@ -3222,20 +3381,20 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
                     }
                 }
             });
-            values.put(listenerId, channelName);
         }
         if (CacheEntryUpdatedListener.class.isAssignableFrom(listener.getClass())) {
-            String channelName = getUpdatedChannelName();
+            List<String> channelNames = getPartitionedNames(getUpdatedChannelName(), this::getUpdatedChannelName);
             if (sync) {
-                channelName = getUpdatedSyncChannelName();
+                channelNames = getPartitionedNames(getUpdatedSyncChannelName(), this::getUpdatedSyncChannelName);
             }
 
             if (cacheEntryListenerConfiguration.isOldValueRequired()) {
-                incrementOldValueListenerCounter(getOldValueListenerCounter());
+                for (String counterName : getPartitionedNames(getOldValueListenerCounter(), this::getOldValueListenerCounter)) {
+                    incrementOldValueListenerCounter(counterName);
+                }
             }
 
-            RTopic topic = redisson.getTopic(channelName, new JCacheEventCodec(codec, osType, sync, true));
-            int listenerId = topic.addListener(List.class, new MessageListener<List<Object>>() {
+            addListener(values, channelNames, new JCacheEventCodec(codec, osType, sync, true), new MessageListener<List<Object>>() {
                 @Override
                 public void onMessage(CharSequence channel, List<Object> msg) {
                     JCacheEntryEvent<K, V> event = new JCacheEntryEvent<K, V>(JCache.this, EventType.UPDATED, msg.get(0), msg.get(1), msg.get(2));
@@ -3250,13 +3409,11 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
                     }
                 }
             });
-            values.put(listenerId, channelName);
         }
         if (CacheEntryExpiredListener.class.isAssignableFrom(listener.getClass())) {
-            String channelName = getExpiredChannelName();
+            List<String> channelNames = getPartitionedNames(getExpiredChannelName(), this::getExpiredChannelName);
 
-            RTopic topic = redisson.getTopic(channelName, new JCacheEventCodec(codec, osType, false));
-            int listenerId = topic.addListener(List.class, new MessageListener<List<Object>>() {
+            addListener(values, channelNames, new JCacheEventCodec(codec, osType, false), new MessageListener<List<Object>>() {
                 @Override
                 public void onMessage(CharSequence channel, List<Object> msg) {
                     JCacheEntryEvent<K, V> event = new JCacheEntryEvent<K, V>(JCache.this, EventType.EXPIRED, msg.get(0), msg.get(1), msg.get(1));
@@ -3266,7 +3423,6 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
                     }
                 }
             });
-            values.put(listenerId, channelName);
         }
 
         if (addToConfig) {
@@ -3274,6 +3430,15 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
         }
     }
 
+    private void addListener(Map<Integer, String> values, List<String> channelNames,
+                             JCacheEventCodec eventCodec, MessageListener<List<Object>> listener) {
+        for (String channelName : channelNames) {
+            RTopic topic = redisson.getTopic(channelName, eventCodec);
+            int listenerId = topic.addListener(List.class, listener);
+            values.put(listenerId, channelName);
+        }
+    }
+
     private void sendSync(boolean sync, List<Object> msg) {
         if (sync) {
             Object syncId = msg.get(msg.size() - 1);
@@ -3295,7 +3460,9 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
             final CacheEntryListener<? super K, ? super V> listener = cacheEntryListenerConfiguration.getCacheEntryListenerFactory().create();
 
             if (CacheEntryUpdatedListener.class.isAssignableFrom(listener.getClass())) {
-                decrementOldValueListenerCounter(getOldValueListenerCounter());
+                for (String counterName : getPartitionedNames(getOldValueListenerCounter(), this::getOldValueListenerCounter)) {
+                    decrementOldValueListenerCounter(counterName);
+                }
             }
         }
 
@@ -3305,6 +3472,23 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
     @Override
     public Iterator<Entry<K, V>> iterator() {
         checkNotClosed();
+        if (isPartitioned()) {
+            List<Iterable<Entry<K, V>>> iterables = new ArrayList<>(partitionNames.size());
+            for (String name : partitionNames) {
+                iterables.add(() -> entryIterator(name));
+            }
+            return new CompositeIterable<>(iterables).iterator();
+        }
+        return entryIterator(getRawName());
+    }
+
+    private Iterator<Entry<K, V>> entryIterator(String name) {
+        String timeoutSetName;
+        if (isPartitioned()) {
+            timeoutSetName = getTimeoutSetName(name);
+        } else {
+            timeoutSetName = getTimeoutSetName();
+        }
         return new RedissonBaseMapIterator<Entry<K, V>>() {
             @Override
             protected Entry<K, V> getValue(Map.Entry<Object, Object> entry) {
@@ -3314,7 +3498,7 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
                 if (accessTimeout == 0) {
                     remove();
                 } else if (accessTimeout != -1) {
-                    write(getRawName(), RedisCommands.ZADD_BOOL, getTimeoutSetName(), accessTimeout, encodeMapKey(entry.getKey()));
+                    write(name, RedisCommands.ZADD_BOOL, timeoutSetName, accessTimeout, encodeMapKey(entry.getKey()));
                 }
                 return je;
             }
@@ -3334,7 +3518,7 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V>, CacheAs
             @Override
             protected ScanResult<Map.Entry<Object, Object>> iterator(RedisClient client,
                                                                      long nextIterPos) {
-                return JCache.this.scanIterator(JCache.this.getRawName(), client, nextIterPos);
+                return JCache.this.scanIterator(name, client, nextIterPos);
             }
 
         };
@@ -38,10 +38,13 @@ public class JCacheConfiguration<K, V> implements CompleteConfiguration<K, V> {
     
     private final ExpiryPolicy expiryPolicy;
     private final MutableConfiguration<K, V> delegate;
+    private final int partitions;
     
     public JCacheConfiguration(Configuration<K, V> configuration) {
+        int partitions = 1;
         if (configuration != null) {
             if (configuration instanceof RedissonConfiguration) {
+                partitions = ((RedissonConfiguration<K, V>) configuration).getPartitions();
                 configuration = ((RedissonConfiguration<K, V>) configuration).getJcacheConfig();
             }
             
@@ -57,6 +60,16 @@ public class JCacheConfiguration<K, V> implements CompleteConfiguration<K, V> {
         }
         
         this.expiryPolicy = delegate.getExpiryPolicyFactory().create();
+        this.partitions = partitions;
+    }
+
+    /**
+     * Returns amount of partitions used to store cache entries.
+     *
+     * @return amount of partitions
+     */
+    public int getPartitions() {
+        return partitions;
     }
     
     @Override
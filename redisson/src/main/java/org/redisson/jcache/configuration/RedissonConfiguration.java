@@ -36,6 +36,8 @@ public class RedissonConfiguration<K, V> implements Configuration<K, V> {
     
     private Config config;
     private RedissonClient redisson;
+
+    private int partitions = 1;
     
     RedissonConfiguration(Config config, Configuration<K, V> jcacheConfig) {
         this.config = config;
@@ -47,6 +49,16 @@ public class RedissonConfiguration<K, V> implements Configuration<K, V> {
         this.jcacheConfig = jcacheConfig;
     }
 
+    RedissonConfiguration(RedissonClient redisson, Configuration<K, V> jcacheConfig, int partitions) {
+        this(redisson, jcacheConfig);
+        setPartitions(partitions);
+    }
+
+    RedissonConfiguration(Config config, Configuration<K, V> jcacheConfig, int partitions) {
+        this(config, jcacheConfig);
+        setPartitions(partitions);
+    }
+
     public static <K, V> Configuration<K, V> fromInstance(RedissonClient redisson) {
         MutableConfiguration<K, V> config = new MutableConfiguration<K, V>();
         return fromInstance(redisson, config);
@@ -56,6 +68,20 @@ public class RedissonConfiguration<K, V> implements Configuration<K, V> {
         return new RedissonConfiguration<K, V>(redisson, jcacheConfig);
     }
 
+    /**
+     * Creates configuration with cache entries spread across <code>partitions</code> Redis keys.
+     * Each partition is stored in a separate hash slot, so in Redis cluster
+     * cache load is distributed across multiple master nodes.
+     *
+     * @param redisson - Redisson instance
+     * @param jcacheConfig - JCache configuration
+     * @param partitions - amount of partitions
+     * @return configuration
+     */
+    public static <K, V> Configuration<K, V> fromInstance(RedissonClient redisson, Configuration<K, V> jcacheConfig, int partitions) {
+        return new RedissonConfiguration<K, V>(redisson, jcacheConfig, partitions);
+    }
+
     public static <K, V> Configuration<K, V> fromConfig(Config config) {
         MutableConfiguration<K, V> jcacheConfig = new MutableConfiguration<K, V>();
         return new RedissonConfiguration<K, V>(config, jcacheConfig);
@@ -65,6 +91,20 @@ public class RedissonConfiguration<K, V> implements Configuration<K, V> {
         return new RedissonConfiguration<K, V>(config, jcacheConfig);
     }
     
+    /**
+     * Creates configuration with cache entries spread across <code>partitions</code> Redis keys.
+     * Each partition is stored in a separate hash slot, so in Redis cluster
+     * cache load is distributed across multiple master nodes.
+     *
+     * @param config - Redisson config
+     * @param jcacheConfig - JCache configuration
+     * @param partitions - amount of partitions
+     * @return configuration
+     */
+    public static <K, V> Configuration<K, V> fromConfig(Config config, Configuration<K, V> jcacheConfig, int partitions) {
+        return new RedissonConfiguration<K, V>(config, jcacheConfig, partitions);
+    }
+
     public Configuration<K, V> getJcacheConfig() {
         return jcacheConfig;
     }
@@ -76,6 +116,17 @@ public class RedissonConfiguration<K, V> implements Configuration<K, V> {
     public Config getConfig() {
         return config;
     }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    private void setPartitions(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions should be greater than zero");
+        }
+        this.partitions = partitions;
+    }
     
     @Override
     public Class<K> getKeyType() {
@@ -19,14 +19,18 @@ import org.redisson.RedissonObject;
 import org.redisson.RedissonScoredSortedSet;
 import org.redisson.RedissonSet;
 import org.redisson.RedissonSetMultimap;
+import org.redisson.api.RFuture;
 import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RSet;
 import org.redisson.api.RSetMultimap;
 import org.redisson.api.condition.Condition;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.liveobject.condition.*;
 import org.redisson.liveobject.resolver.NamingScheme;
 
+import java.math.BigDecimal;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
@@ -278,9 +282,247 @@ public class LiveObjectSearch {
         return allIds;
     }
     
+    private List<List<Condition>> toGroups(Condition condition) {
+        List<List<Condition>> groups = new ArrayList<>();
+        if (condition instanceof ANDCondition) {
+            for (Condition cond : ((ANDCondition) condition).getConditions()) {
+                List<List<Condition>> g = toGroups(cond);
+                if (g == null) {
+                    return null;
+                }
+                groups.addAll(g);
+            }
+        } else if (condition instanceof ORCondition) {
+            List<Condition> group = new ArrayList<>();
+            for (Condition cond : ((ORCondition) condition).getConditions()) {
+                if (cond instanceof ANDCondition || cond instanceof ORCondition) {
+                    return null;
+                }
+                group.add(cond);
+            }
+            groups.add(group);
+        } else {
+            groups.add(Collections.singletonList(condition));
+        }
+        return groups;
+    }
+
+    private String value(double score) {
+        if (Double.isInfinite(score)) {
+            if (score > 0) {
+                return "+inf";
+            }
+            return "-inf";
+        }
+        return BigDecimal.valueOf(score).toPlainString();
+    }
+
+    private void addRange(List<Object> keys, List<Object> args, NamingScheme namingScheme, Class<?> entityClass, String fieldName,
+                          double min, boolean minInclusive, double max, boolean maxInclusive) {
+        String indexName = namingScheme.getIndexName(entityClass, fieldName);
+        RScoredSortedSet<Object> set = new RedissonScoredSortedSet<>(namingScheme.getCodec(), commandExecutor, indexName, null);
+        keys.add(((RedissonObject) set).getRawName());
+        args.addAll(Arrays.asList("z", value(min), minInclusive ? 1 : 0, value(max), maxInclusive ? 1 : 0));
+    }
+
+    /*
+     * Intersects groups of conditions on Redis side. Each group matches id if any of its conditions does.
+     * Group with minimal cardinality is read and its ids are checked against other groups
+     * in order of cardinality, so only matched ids are returned.
+     * All index names of entity share the same hash slot.
+     */
+    private List<Object> findServerSide(Class<?> entityClass, List<List<Condition>> groups, int offset, int limit) {
+        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(entityClass);
+
+        List<Object> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        args.add(offset);
+        args.add(limit);
+        for (List<Condition> group : groups) {
+            args.add(group.size());
+            for (Condition cond : group) {
+                if (cond instanceof EQCondition) {
+                    EQCondition c = (EQCondition) cond;
+                    if (c.getValue() instanceof Number) {
+                        double v = ((Number) c.getValue()).doubleValue();
+                        addRange(keys, args, namingScheme, entityClass, c.getName(), v, true, v, true);
+                    } else {
+                        String indexName = namingScheme.getIndexName(entityClass, c.getName());
+                        RSetMultimap<Object, Object> map = new RedissonSetMultimap<>(namingScheme.getCodec(), commandExecutor, indexName);
+                        RSet<Object> values = map.get(c.getValue());
+                        keys.add(((RedissonObject) values).getRawName());
+                        args.addAll(Arrays.asList("s", 0, 0, 0, 0));
+                    }
+                } else if (cond instanceof GTCondition) {
+                    GTCondition c = (GTCondition) cond;
+                    addRange(keys, args, namingScheme, entityClass, c.getName(),
+                                c.getValue().doubleValue(), false, Double.POSITIVE_INFINITY, false);
+                } else if (cond instanceof GECondition) {
+                    GECondition c = (GECondition) cond;
+                    addRange(keys, args, namingScheme, entityClass, c.getName(),
+                                c.getValue().doubleValue(), true, Double.POSITIVE_INFINITY, false);
+                } else if (cond instanceof LTCondition) {
+                    LTCondition c = (LTCondition) cond;
+                    addRange(keys, args, namingScheme, entityClass, c.getName(),
+                                Double.NEGATIVE_INFINITY, false, c.getValue().doubleValue(), false);
+                } else if (cond instanceof LECondition) {
+                    LECondition c = (LECondition) cond;
+                    addRange(keys, args, namingScheme, entityClass, c.getName(),
+                                Double.NEGATIVE_INFINITY, false, c.getValue().doubleValue(), true);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        }
+
+        Codec codec = namingScheme.getCodec();
+        RFuture<List<Object>> future = commandExecutor.evalReadAsync((String) keys.get(0), codec, RedisCommands.EVAL_LIST,
+                "local function toScore(v) " +
+                    "if v == '+inf' or v == 'inf' then " +
+                        "return math.huge; " +
+                    "elseif v == '-inf' then " +
+                        "return -math.huge; " +
+                    "end; " +
+                    "return tonumber(v); " +
+                "end; " +
+
+                "local function range(leaf, idx) " +
+                    "return redis.call(idx, leaf.key, (leaf.minInc and '' or '(') .. leaf.min, (leaf.maxInc and '' or '(') .. leaf.max); " +
+                "end; " +
+
+                "local function matches(leaf, id) " +
+                    "if leaf.type == 's' then " +
+                        "return redis.call('sismember', leaf.key, id) == 1; " +
+                    "end; " +
+                    "local score = redis.call('zscore', leaf.key, id); " +
+                    "if score == false then " +
+                        "return false; " +
+                    "end; " +
+                    "score = toScore(score); " +
+                    "local min = toScore(leaf.min); " +
+                    "local max = toScore(leaf.max); " +
+                    "if score < min or score > max " +
+                        "or (score == min and not leaf.minInc) " +
+                        "or (score == max and not leaf.maxInc) then " +
+                        "return false; " +
+                    "end; " +
+                    "return true; " +
+                "end; " +
+
+                "local groups = {}; " +
+                "local keyIndex = 1; " +
+                "local argIndex = 3; " +
+                "while argIndex <= #ARGV do " +
+                    "local group = {leafs = {}, count = 0}; " +
+                    "local size = tonumber(ARGV[argIndex]); " +
+                    "argIndex = argIndex + 1; " +
+                    "for i = 1, size do " +
+                        "local leaf = {key = KEYS[keyIndex], type = ARGV[argIndex], " +
+                                      "min = ARGV[argIndex + 1], minInc = ARGV[argIndex + 2] == '1', " +
+                                      "max = ARGV[argIndex + 3], maxInc = ARGV[argIndex + 4] == '1'}; " +
+                        "keyIndex = keyIndex + 1; " +
+                        "argIndex = argIndex + 5; " +
+                        "if leaf.type == 's' then " +
+                            "group.count = group.count + redis.call('scard', leaf.key); " +
+                        "else " +
+                            "group.count = group.count + range(leaf, 'zcount'); " +
+                        "end; " +
+                        "table.insert(group.leafs, leaf); " +
+                    "end; " +
+                    "if group.count == 0 then " +
+                        "return {}; " +
+                    "end; " +
+                    "table.insert(groups, group); " +
+                "end; " +
+
+                "table.sort(groups, function(a, b) return a.count < b.count; end); " +
+
+                "local ids = {}; " +
+                "local seen = {}; " +
+                "for i, leaf in ipairs(groups[1].leafs) do " +
+                    "local members; " +
+                    "if leaf.type == 's' then " +
+                        "members = redis.call('smembers', leaf.key); " +
+                    "else " +
+                        "members = range(leaf, 'zrangebyscore'); " +
+                    "end; " +
+                    "for j, id in ipairs(members) do " +
+                        "if seen[id] == nil then " +
+                            "seen[id] = true; " +
+                            "table.insert(ids, id); " +
+                        "end; " +
+                    "end; " +
+                "end; " +
+
+                "local offset = tonumber(ARGV[1]); " +
+                "local limit = tonumber(ARGV[2]); " +
+                "local result = {}; " +
+                "local skipped = 0; " +
+                "for i, id in ipairs(ids) do " +
+                    "local matched = true; " +
+                    "for g = 2, #groups do " +
+                        "local groupMatched = false; " +
+                        "for j, leaf in ipairs(groups[g].leafs) do " +
+                            "if matches(leaf, id) then " +
+                                "groupMatched = true; " +
+                                "break; " +
+                            "end; " +
+                        "end; " +
+                        "if not groupMatched then " +
+                            "matched = false; " +
+                            "break; " +
+                        "end; " +
+                    "end; " +
+                    "if matched then " +
+                        "if skipped < offset then " +
+                            "skipped = skipped + 1; " +
+                        "else " +
+                            "table.insert(result, id); " +
+                            "if limit > 0 and #result >= limit then " +
+                                "break; " +
+                            "end; " +
+                        "end; " +
+                    "end; " +
+                "end; " +
+                "return result; ",
+                keys, args.toArray());
+        return commandExecutor.get(future);
+    }
+
+    public List<Object> find(Class<?> entityClass, Condition condition, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset can't be negative");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit can't be negative");
+        }
+
+        List<List<Condition>> groups = toGroups(condition);
+        if (groups != null) {
+            return findServerSide(entityClass, groups, offset, limit);
+        }
+
+        List<Object> ids = new ArrayList<>(find(entityClass, condition));
+        if (offset >= ids.size()) {
+            return Collections.emptyList();
+        }
+        int end = ids.size();
+        if (limit > 0) {
+            end = Math.min(end, offset + limit);
+        }
+        return ids.subList(offset, end);
+    }
+
     public Set<Object> find(Class<?> entityClass, Condition condition) {
         NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(entityClass);
 
+        if (condition instanceof ANDCondition) {
+            List<List<Condition>> groups = toGroups(condition);
+            if (groups != null) {
+                return new HashSet<>(findServerSide(entityClass, groups, 0, 0));
+            }
+        }
+
         if (condition instanceof EQCondition) {
             EQCondition c = (EQCondition) condition;
             String indexName = namingScheme.getIndexName(entityClass, c.getName());
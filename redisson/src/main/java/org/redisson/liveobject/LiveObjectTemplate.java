@@ -16,6 +16,7 @@
 package org.redisson.liveobject;
 
 import org.redisson.api.RMap;
+import org.redisson.liveobject.core.LiveObjectCache;
 
 /**
  *
@@ -25,5 +26,6 @@ public class LiveObjectTemplate {
 
     private Object liveObjectId;
     private RMap liveObjectLiveMap;
+    private LiveObjectCache liveObjectCache;
 
 }
@@ -17,6 +17,7 @@ package org.redisson.liveobject.core;
 
 import io.netty.buffer.ByteBuf;
 import net.bytebuddy.implementation.bind.annotation.*;
+import org.redisson.RedissonMap;
 import org.redisson.RedissonObject;
 import org.redisson.RedissonReference;
 import org.redisson.RedissonScoredSortedSet;
@@ -66,7 +67,8 @@ public class AccessorInterceptor {
                             @SuperCall Callable<?> superMethod,
                             @AllArguments Object[] args,
                             @This Object me,
-                            @FieldValue("liveObjectLiveMap") RMap<String, Object> liveMap) throws Exception {
+                            @FieldValue("liveObjectLiveMap") RMap<String, Object> liveMap,
+                            @FieldValue("liveObjectCache") LiveObjectCache cache) throws Exception {
         if (isGetter(method, getREntityIdFieldName(me))) {
             return ((RLiveObject) me).getLiveObjectId();
         }
@@ -84,11 +86,19 @@ public class AccessorInterceptor {
                 return field.get(me);
             }
 
-            Object result = liveMap.get(fieldName);
+            Object result;
+            if (cache != null) {
+                result = cache.get(fieldName, liveMap);
+            } else {
+                result = liveMap.get(fieldName);
+            }
             if (result == null) {
                 RObject ar = commandExecutor.getObjectBuilder().createObject(((RLiveObject) me).getLiveObjectId(), me.getClass().getSuperclass(), fieldType, fieldName);
                 if (ar != null) {
                     commandExecutor.getObjectBuilder().store(ar, fieldName, liveMap);
+                    if (cache != null) {
+                        cache.evict(fieldName);
+                    }
                     return ar;
                 }
             }
@@ -113,6 +123,9 @@ public class AccessorInterceptor {
             if (arg != null && ClassUtils.isAnnotationPresent(arg.getClass(), REntity.class)) {
                 throw new IllegalStateException("REntity object should be attached to Redisson first");
             }
+            if (cache != null) {
+                cache.evict(fieldName);
+            }
             
             if (arg instanceof RLiveObject) {
                 RLiveObject liveObject = (RLiveObject) arg;
@@ -165,6 +178,11 @@ public class AccessorInterceptor {
                 return me;
             }
 
+            if (cache != null) {
+                cache.set(fieldName, arg);
+                return me;
+            }
+
             removeIndex(liveMap, me, field);
             if (arg != null) {
                 storeIndex(field, me, arg);
@@ -180,6 +198,51 @@ public class AccessorInterceptor {
         return superMethod.call();
     }
 
+    void flush(Object me, RMap<String, Object> liveMap, LiveObjectCache cache) throws NoSuchFieldException {
+        Map<String, Object> changes = cache.getChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        CommandBatchService ce;
+        if (commandExecutor instanceof CommandBatchService) {
+            ce = (CommandBatchService) commandExecutor;
+        } else {
+            ce = new CommandBatchService(commandExecutor);
+        }
+
+        Map<String, Object> values = new HashMap<>();
+        List<String> removedFields = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : changes.entrySet()) {
+            Field field = ClassUtils.getDeclaredField(me.getClass().getSuperclass(), entry.getKey());
+            if (field.getAnnotation(RIndex.class) != null) {
+                removeIndex(ce, liveMap, me, field);
+                if (entry.getValue() != null) {
+                    storeIndex(ce, field, me, entry.getValue());
+                }
+            }
+
+            if (entry.getValue() == null) {
+                removedFields.add(entry.getKey());
+            } else {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        RMapAsync<String, Object> map = new RedissonMap<>(liveMap.getCodec(), ce, liveMap.getName(), null, null, null);
+        if (!removedFields.isEmpty()) {
+            map.fastRemoveAsync(removedFields.toArray(new String[0]));
+        }
+        if (!values.isEmpty()) {
+            map.putAllAsync(values);
+        }
+
+        if (ce != commandExecutor) {
+            ce.execute();
+        }
+        cache.flushed(changes);
+    }
+
     private static final Set<Class<?>> PRIMITIVE_CLASSES = new HashSet<>(Arrays.asList(
                         byte.class, short.class, int.class, long.class, float.class, double.class));
 
@@ -188,9 +251,6 @@ public class AccessorInterceptor {
             return;
         }
 
-        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(me.getClass().getSuperclass());
-        String indexName = namingScheme.getIndexName(me.getClass().getSuperclass(), field.getName());
-
         CommandBatchService ce;
         if (commandExecutor instanceof CommandBatchService) {
             ce = (CommandBatchService) commandExecutor;
@@ -198,6 +258,17 @@ public class AccessorInterceptor {
             ce = new CommandBatchService(commandExecutor);
         }
 
+        removeIndex(ce, liveMap, me, field);
+
+        if (ce != commandExecutor) {
+            ce.execute();
+        }
+    }
+
+    private void removeIndex(CommandBatchService ce, RMap<String, Object> liveMap, Object me, Field field) {
+        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(me.getClass().getSuperclass());
+        String indexName = namingScheme.getIndexName(me.getClass().getSuperclass(), field.getName());
+
         if (Number.class.isAssignableFrom(field.getType()) || PRIMITIVE_CLASSES.contains(field.getType())) {
             RScoredSortedSetAsync<Object> set = new RedissonScoredSortedSet<>(namingScheme.getCodec(), ce, indexName, null);
             set.removeAsync(((RLiveObject) me).getLiveObjectId());
@@ -218,10 +289,6 @@ public class AccessorInterceptor {
                         namingScheme.getCodec(), ((RLiveObject) me).getLiveObjectId(), field.getName());
             }
         }
-
-        if (ce != commandExecutor) {
-            ce.execute();
-        }
     }
 
     private void removeAsync(CommandBatchService ce, String name, String mapName, Codec codec, Object value, String fieldName) {
@@ -247,9 +314,6 @@ public class AccessorInterceptor {
             return;
         }
 
-        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(me.getClass().getSuperclass());
-        String indexName = namingScheme.getIndexName(me.getClass().getSuperclass(), field.getName());
-
         boolean skipExecution = false;
         CommandBatchService ce;
         if (commandExecutor instanceof CommandBatchService) {
@@ -259,6 +323,17 @@ public class AccessorInterceptor {
             ce = new CommandBatchService(commandExecutor);
         }
 
+        storeIndex(ce, field, me, arg);
+
+        if (!skipExecution) {
+            ce.execute();
+        }
+    }
+
+    private void storeIndex(CommandBatchService ce, Field field, Object me, Object arg) {
+        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(me.getClass().getSuperclass());
+        String indexName = namingScheme.getIndexName(me.getClass().getSuperclass(), field.getName());
+
         if (arg instanceof Number) {
             RScoredSortedSetAsync<Object> set = new RedissonScoredSortedSet<>(namingScheme.getCodec(), ce, indexName, null);
             set.addAsync(((Number) arg).doubleValue(), ((RLiveObject) me).getLiveObjectId());
@@ -266,10 +341,6 @@ public class AccessorInterceptor {
             RMultimapAsync<Object, Object> map = new RedissonSetMultimap<>(namingScheme.getCodec(), ce, indexName);
             map.putAsync(arg, ((RLiveObject) me).getLiveObjectId());
         }
-
-        if (!skipExecution) {
-            ce.execute();
-        }
     }
 
     private String getFieldName(Class<?> clazz, Method method) {
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.liveobject.core;
+
+import org.redisson.api.RMap;
+
+import java.util.*;
+
+/**
+ * Holds field values of live object loaded with a single HMGET
+ * and field changes which aren't flushed to Redis yet.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LiveObjectCache {
+
+    private final Set<String> fieldNames;
+    private final Map<String, Object> values = new HashMap<>();
+    private final Map<String, Object> changes = new LinkedHashMap<>();
+    private boolean loaded;
+
+    public LiveObjectCache(Set<String> fieldNames) {
+        this.fieldNames = fieldNames;
+    }
+
+    public synchronized Object get(String fieldName, RMap<String, Object> liveMap) {
+        if (changes.containsKey(fieldName)) {
+            return changes.get(fieldName);
+        }
+
+        if (!loaded) {
+            loaded = true;
+            Map<String, Object> result = liveMap.getAll(fieldNames);
+            for (String name : fieldNames) {
+                values.put(name, result.get(name));
+            }
+        }
+
+        if (values.containsKey(fieldName)) {
+            return values.get(fieldName);
+        }
+
+        Object value = liveMap.get(fieldName);
+        values.put(fieldName, value);
+        return value;
+    }
+
+    public synchronized void set(String fieldName, Object value) {
+        changes.put(fieldName, value);
+    }
+
+    public synchronized void evict(String fieldName) {
+        changes.remove(fieldName);
+        values.remove(fieldName);
+    }
+
+    public synchronized Map<String, Object> getChanges() {
+        return new LinkedHashMap<>(changes);
+    }
+
+    public synchronized void flushed(Map<String, Object> flushedChanges) {
+        for (Map.Entry<String, Object> entry : flushedChanges.entrySet()) {
+            changes.remove(entry.getKey(), entry.getValue());
+            values.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public synchronized void clear() {
+        changes.clear();
+        values.clear();
+        loaded = false;
+    }
+
+}
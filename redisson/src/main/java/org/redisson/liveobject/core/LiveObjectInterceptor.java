@@ -54,12 +54,14 @@ public class LiveObjectInterceptor {
     private final Class<?> idFieldType;
     private final NamingScheme namingScheme;
     private final RedissonLiveObjectService service;
+    private final AccessorInterceptor accessorInterceptor;
 
     public LiveObjectInterceptor(CommandAsyncExecutor commandExecutor, RedissonLiveObjectService service, Class<?> entityClass, String idFieldName) {
         this.service = service;
         this.commandExecutor = commandExecutor;
         this.originalClass = entityClass;
         this.idFieldName = idFieldName;
+        this.accessorInterceptor = new AccessorInterceptor(commandExecutor);
 
         namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(entityClass);
 
@@ -80,7 +82,8 @@ public class LiveObjectInterceptor {
             @FieldProxy("liveObjectId") Getter idGetter,
             @FieldValue("liveObjectLiveMap") RMap<String, ?> map,
             @FieldProxy("liveObjectLiveMap") Setter mapSetter,
-            @FieldProxy("liveObjectLiveMap") Getter mapGetter
+            @FieldProxy("liveObjectLiveMap") Getter mapGetter,
+            @FieldValue("liveObjectCache") LiveObjectCache cache
     ) throws Throwable {
         if ("setLiveObjectId".equals(method.getName())) {
             if (args[0].getClass().isArray()) {
@@ -116,7 +119,18 @@ public class LiveObjectInterceptor {
             return namingScheme.resolveId(((RedissonObject) map).getRawName());
         }
 
+        if ("flush".equals(method.getName())) {
+            if (cache != null) {
+                accessorInterceptor.flush(me, (RMap<String, Object>) map, cache);
+            }
+            return null;
+        }
+
         if ("delete".equals(method.getName())) {
+            if (cache != null) {
+                cache.clear();
+            }
+
             CommandBatchService ce;
             if (commandExecutor instanceof CommandBatchService) {
                 ce = (CommandBatchService) commandExecutor;
@@ -96,6 +96,16 @@ public class AsyncSemaphore {
         tryRun();
     }
 
+    /**
+     * Removes permits. Counter may become negative,
+     * so next acquires wait until enough permits are released.
+     *
+     * @param permits - amount of permits
+     */
+    public void removePermits(int permits) {
+        counter.addAndGet(-permits);
+    }
+
     @Override
     public String toString() {
         return "value:" + counter + ":queue:" + queueSize();
@@ -16,8 +16,13 @@
 package org.redisson.pubsub;
 
 import org.redisson.RedissonLockEntry;
+import org.redisson.client.BaseRedisPubSubListener;
+import org.redisson.client.ChannelName;
+import org.redisson.client.codec.StringCodec;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 
@@ -29,8 +34,79 @@ public class LockPubSub extends PublishSubscribe<RedissonLockEntry> {
     public static final Long UNLOCK_MESSAGE = 0L;
     public static final Long READ_UNLOCK_MESSAGE = 1L;
 
+    private final PublishSubscribeService service;
+    private final ConcurrentMap<String, CompletableFuture<Void>> sharedChannels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RedissonLockEntry> sharedEntries = new ConcurrentHashMap<>();
+
     public LockPubSub(PublishSubscribeService service) {
         super(service);
+        this.service = service;
+    }
+
+    /**
+     * Subscribes to unlock messages of lock with defined <code>channelName</code>
+     * delivered through shared channel. Subscription to shared channel
+     * is made once and kept.
+     *
+     * @param channelName - lock channel name
+     * @param sharedChannelName - shared channel name
+     * @return lock entry
+     */
+    public CompletableFuture<RedissonLockEntry> subscribeShared(String channelName, String sharedChannelName) {
+        RedissonLockEntry entry = sharedEntries.compute(channelName, (k, v) -> {
+            if (v == null) {
+                v = new RedissonLockEntry(new CompletableFuture<>());
+            }
+            v.acquire();
+            return v;
+        });
+
+        CompletableFuture<Void> channelFuture = sharedChannels.computeIfAbsent(sharedChannelName, k -> {
+            BaseRedisPubSubListener listener = new BaseRedisPubSubListener() {
+                @Override
+                public void onMessage(CharSequence channel, Object message) {
+                    if (!sharedChannelName.equals(channel.toString())) {
+                        return;
+                    }
+
+                    String msg = message.toString();
+                    int index = msg.lastIndexOf(':');
+                    RedissonLockEntry value = sharedEntries.get(msg.substring(0, index));
+                    if (value != null) {
+                        LockPubSub.this.onMessage(value, Long.valueOf(msg.substring(index + 1)));
+                    }
+                }
+            };
+            return service.subscribe(StringCodec.INSTANCE, new ChannelName(k), listener).thenApply(r -> null);
+        });
+
+        CompletableFuture<RedissonLockEntry> result = new CompletableFuture<>();
+        channelFuture.whenComplete((r, e) -> {
+            if (e != null) {
+                sharedChannels.remove(sharedChannelName, channelFuture);
+                unsubscribeShared(entry, channelName);
+                result.completeExceptionally(e);
+                return;
+            }
+            entry.getPromise().complete(entry);
+            if (!result.complete(entry)) {
+                // subscription timed out
+                unsubscribeShared(entry, channelName);
+            }
+        });
+        return result;
+    }
+
+    public void unsubscribeShared(RedissonLockEntry entry, String channelName) {
+        sharedEntries.computeIfPresent(channelName, (k, v) -> {
+            if (v != entry) {
+                return v;
+            }
+            if (v.release() == 0) {
+                return null;
+            }
+            return v;
+        });
     }
     
     @Override
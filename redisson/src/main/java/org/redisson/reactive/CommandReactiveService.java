@@ -22,7 +22,6 @@ import org.redisson.api.RFuture;
 import org.redisson.command.CommandAsyncService;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.liveobject.core.RedissonObjectBuilder;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -38,36 +37,37 @@ public class CommandReactiveService extends CommandAsyncService implements Comma
 
     @Override
     public <R> Mono<R> reactive(Callable<RFuture<R>> supplier) {
-        return Flux.<R>create(emitter -> {
-            emitter.onRequest(n -> {
-                RFuture<R> future;
-                try {
-                    future = supplier.call();
-                } catch (Exception e) {
-                    emitter.error(e);
-                    return;
-                }
-                
-                emitter.onDispose(() -> {
-                    future.cancel(true);
-                });
+        // sink is completed directly by the future callback
+        // which is invoked in Netty thread handled Redis response
+        return Mono.create(sink -> {
+            RFuture<R> future;
+            try {
+                future = supplier.call();
+            } catch (Exception e) {
+                sink.error(e);
+                return;
+            }
 
-                future.whenComplete((v, e) -> {
-                    if (e != null) {
-                        if (e instanceof CompletionException) {
-                            e = e.getCause();
-                        }
-                        emitter.error(e);
-                        return;
-                    }
+            sink.onCancel(() -> {
+                future.cancel(true);
+            });
 
-                    if (v != null) {
-                        emitter.next(v);
+            future.whenComplete((v, e) -> {
+                if (e != null) {
+                    if (e instanceof CompletionException) {
+                        e = e.getCause();
                     }
-                    emitter.complete();
-                });
+                    sink.error(e);
+                    return;
+                }
+
+                if (v != null) {
+                    sink.success(v);
+                } else {
+                    sink.success();
+                }
             });
-        }).next();
+        });
     }
 
     }
@@ -15,6 +15,8 @@
  */
 package org.redisson.reactive;
 
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
@@ -36,6 +38,8 @@ import reactor.core.publisher.FluxSink;
  */
 public class RedissonListReactive<V> {
 
+    private static final int PAGE_SIZE = 100;
+
     private final RListAsync<V> instance;
     
     public RedissonListReactive(RListAsync<V> instance) {
@@ -74,43 +78,71 @@ public class RedissonListReactive<V> {
                 emitter.onRequest(new LongConsumer() {
                     
                     int currentIndex = startIndex;
-                    volatile boolean maxAccepted;
+                    final AtomicLong requested = new AtomicLong();
                     
                     @Override
                     public void accept(long value) {
-                        if (Long.MAX_VALUE == value) {
-                            maxAccepted = true;
-                        }
-                        if (maxAccepted && value != Long.MAX_VALUE) {
-                            return;
+                        long prev = requested.getAndUpdate(r -> {
+                            long v = r + value;
+                            if (v < 0) {
+                                return Long.MAX_VALUE;
+                            }
+                            return v;
+                        });
+                        if (prev == 0) {
+                            nextPage(emitter);
                         }
-                        onRequest(forward, emitter, value);
                     }
-                    
-                    private void onRequest(boolean forward, FluxSink<V> emitter, long n) {
-                        instance.getAsync(currentIndex).whenComplete((value, e) -> {
-                                if (e != null) {
-                                    emitter.error(e);
-                                    return;
-                                }
 
-                                if (value != null) {
-                                    emitter.next(value);
-                                    if (forward) {
-                                        currentIndex++;
-                                    } else {
-                                        currentIndex--;
-                                    }
-                                }
+                    private void nextPage(FluxSink<V> emitter) {
+                        int count = (int) Math.min(requested.get(), PAGE_SIZE);
+                        int fromIndex;
+                        int toIndex;
+                        if (forward) {
+                            fromIndex = currentIndex;
+                            toIndex = currentIndex + count - 1;
+                        } else {
+                            fromIndex = currentIndex - count + 1;
+                            toIndex = currentIndex;
+                            if (currentIndex >= 0 && fromIndex < 0) {
+                                fromIndex = 0;
+                            }
+                        }
 
-                                if (value == null) {
-                                    emitter.complete();
-                                    return;
-                                }
-                                if (n-1 == 0) {
-                                    return;
+                        boolean lastPage = !forward && currentIndex >= 0 && fromIndex == 0;
+                        int pageSize = toIndex - fromIndex + 1;
+                        instance.rangeAsync(fromIndex, toIndex).whenComplete((values, e) -> {
+                            if (e != null) {
+                                emitter.error(e);
+                                return;
+                            }
+
+                            if (!forward) {
+                                Collections.reverse(values);
+                            }
+                            for (V value : values) {
+                                emitter.next(value);
+                            }
+                            if (forward) {
+                                currentIndex += values.size();
+                            } else {
+                                currentIndex -= values.size();
+                            }
+
+                            if (lastPage || values.size() < pageSize) {
+                                emitter.complete();
+                                return;
+                            }
+
+                            long left = requested.updateAndGet(r -> {
+                                if (r == Long.MAX_VALUE) {
+                                    return r;
                                 }
-                                onRequest(forward, emitter, n-1);
+                                return r - values.size();
+                            });
+                            if (left > 0) {
+                                nextPage(emitter);
+                            }
                         });
                     }
                 });
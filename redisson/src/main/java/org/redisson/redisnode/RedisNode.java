@@ -26,6 +26,8 @@ import org.redisson.client.protocol.RedisCommands;
 import org.redisson.client.protocol.Time;
 import org.redisson.cluster.ClusterSlotRange;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.connection.ClientConnectionsEntry;
+import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.misc.CompletableFutureWrapper;
 import org.redisson.misc.RedisURI;
 
@@ -61,6 +63,27 @@ public class RedisNode implements RedisClusterMaster, RedisClusterSlave, RedisMa
         return client;
     }
 
+    @Override
+    public ConnectionPoolStats getConnectionPoolStats() {
+        ClientConnectionsEntry entry = getConnectionsEntry();
+        if (entry == null) {
+            return null;
+        }
+        return new ConnectionPoolStats(entry.getPoolSize(), entry.getUsedConnections(),
+                entry.getAcquiredConnections(), entry.getAwaitedConnections(), entry.getAcquireWaitTime());
+    }
+
+    private ClientConnectionsEntry getConnectionsEntry() {
+        MasterSlaveEntry entry = commandExecutor.getConnectionManager().getEntry(client);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.getClient() == client) {
+            return entry.getMasterEntry();
+        }
+        return entry.getEntry(client);
+    }
+
     @Override
     public InetSocketAddress getAddr() {
         return client.getAddr();
@@ -15,6 +15,7 @@ import org.redisson.codec.*;
 import org.redisson.config.Config;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +43,206 @@ public class RedissonCodecTest extends BaseTest {
         test(redisson);
     }
 
+    @Test
+    public void testZstd() {
+        Config config = createConfig();
+        config.setCodec(new ZstdCodec());
+        RedissonClient redisson = Redisson.create(config);
+
+        test(redisson);
+    }
+
+    @Test
+    public void testZstdDictionary() throws IOException {
+        ZstdCodec codec1 = new ZstdCodec(new JsonJacksonCodec());
+        List<Object> samples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            samples.add(new TestObject("name" + i, "value" + i));
+        }
+        byte[] dictionary = codec1.trainDictionary(samples, 1024);
+
+        Config config = createConfig();
+        config.setCodec(codec1);
+        RedissonClient redisson1 = Redisson.create(config);
+        ZstdDictionaryStore store = new ZstdDictionaryStore(redisson1, "dictionaries");
+        store.attach(codec1);
+        store.save(dictionary);
+
+        ZstdCodec codec2 = new ZstdCodec(new JsonJacksonCodec());
+        Config config2 = createConfig();
+        config2.setCodec(codec2);
+        RedissonClient redisson2 = Redisson.create(config2);
+        new ZstdDictionaryStore(redisson2, "dictionaries").attach(codec2);
+
+        TestObject value = new TestObject("name1", "value1");
+        ByteBuf plain = new ZstdCodec(new JsonJacksonCodec()).getValueEncoder().encode(value);
+        ByteBuf compressed = codec2.getValueEncoder().encode(value);
+        assertThat(compressed.readableBytes()).isLessThan(plain.readableBytes());
+        plain.release();
+        compressed.release();
+
+        redisson1.getBucket("test").set(value);
+        assertThat(redisson2.getBucket("test").get()).isEqualTo(value);
+
+        redisson1.shutdown();
+        redisson2.shutdown();
+    }
+
+    public enum CompactStatus {NEW, ACTIVE}
+
+    public static class CompactItem implements Serializable {
+
+        private String name;
+        private int count;
+
+        public CompactItem() {
+        }
+
+        public CompactItem(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CompactItem that = (CompactItem) o;
+            return count == that.count && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, count);
+        }
+    }
+
+    public static class CompactSpecialItem extends CompactItem {
+
+        private String code;
+
+        public CompactSpecialItem() {
+        }
+
+        public CompactSpecialItem(String name, int count, String code) {
+            super(name, count);
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o) && Objects.equals(code, ((CompactSpecialItem) o).code);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), code);
+        }
+    }
+
+    public static class CompactOrder implements Serializable {
+
+        private long id;
+        private Long version;
+        private double amount;
+        private String comment;
+        private CompactStatus status;
+        private List<CompactItem> items = new ArrayList<>();
+        private Map<String, Integer> tags = new HashMap<>();
+        private CompactItem main;
+        private CompactOrder parent;
+        private Date created;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CompactOrder that = (CompactOrder) o;
+            return id == that.id && Double.compare(that.amount, amount) == 0
+                    && Objects.equals(version, that.version) && Objects.equals(comment, that.comment)
+                    && status == that.status && Objects.equals(items, that.items)
+                    && Objects.equals(tags, that.tags) && Objects.equals(main, that.main)
+                    && Objects.equals(parent, that.parent) && Objects.equals(created, that.created);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, comment);
+        }
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        CompactOrder parent = new CompactOrder();
+        parent.id = -1;
+
+        CompactOrder order = new CompactOrder();
+        order.id = 1234567890123L;
+        order.amount = 12.5;
+        order.comment = "тест";
+        order.status = CompactStatus.ACTIVE;
+        order.items.add(new CompactItem("item1", -3));
+        order.items.add(null);
+        order.tags.put("tag", 1);
+        order.main = new CompactItem(null, 0);
+        order.parent = parent;
+        order.created = new Date();
+
+        CompactCodec codec = new CompactCodec(CompactOrder.class);
+        ByteBuf buf = codec.getValueEncoder().encode(order);
+        assertThat(codec.getValueDecoder().decode(buf, null)).isEqualTo(order);
+        buf.release();
+
+        Config config = createConfig();
+        config.setCodec(codec);
+        RedissonClient redisson = Redisson.create(config);
+        RBucket<CompactOrder> bucket = redisson.getBucket("order");
+        bucket.set(order);
+        assertThat(bucket.get()).isEqualTo(order);
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testCompactSubclass() throws IOException {
+        CompactOrder order = new CompactOrder();
+        order.items.add(new CompactSpecialItem("item1", 1, "code1"));
+        order.items.add(new CompactItem("item2", 2));
+        order.main = new CompactSpecialItem("item3", 3, "code3");
+
+        CompactCodec codec = new CompactCodec(CompactOrder.class);
+        ByteBuf buf = codec.getValueEncoder().encode(order);
+        CompactOrder decoded = (CompactOrder) codec.getValueDecoder().decode(buf, null);
+        buf.release();
+
+        assertThat(decoded).isEqualTo(order);
+        assertThat(decoded.main).isInstanceOf(CompactSpecialItem.class);
+        assertThat(decoded.items.get(0)).isInstanceOf(CompactSpecialItem.class);
+        assertThat(decoded.items.get(1).getClass()).isEqualTo(CompactItem.class);
+    }
+
+    @Test
+    public void testCompactCyclic() {
+        CompactOrder order = new CompactOrder();
+        order.parent = order;
+
+        CompactCodec codec = new CompactCodec(CompactOrder.class);
+        Assertions.assertThrows(IOException.class, () -> codec.getValueEncoder().encode(order));
+    }
+
+    @Test
+    public void testCompactSharedReference() throws IOException {
+        CompactItem item = new CompactItem("item1", 1);
+        CompactOrder order = new CompactOrder();
+        order.items.add(item);
+        order.items.add(item);
+        order.main = item;
+
+        CompactCodec codec = new CompactCodec(CompactOrder.class);
+        ByteBuf buf = codec.getValueEncoder().encode(order);
+        assertThat(codec.getValueDecoder().decode(buf, null)).isEqualTo(order);
+        buf.release();
+    }
+
     @Test
     public void testJdk() {
         Config config = createConfig();
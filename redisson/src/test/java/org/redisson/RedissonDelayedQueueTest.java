@@ -5,7 +5,9 @@ import org.redisson.api.RBlockingQueue;
 import org.redisson.api.RDelayedQueue;
 import org.redisson.api.RQueue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +30,31 @@ public class RedissonDelayedQueueTest extends BaseTest {
         assertThat(blockingFairQueue).containsOnly("1_1_2");
     }
     
+    @Test
+    public void testMultipleQueues() throws InterruptedException {
+        List<RBlockingQueue<Integer>> queues = new ArrayList<>();
+        List<RDelayedQueue<Integer>> delayedQueues = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            RBlockingQueue<Integer> queue = redisson.getBlockingQueue("delay_queue_" + i);
+            RDelayedQueue<Integer> delayedQueue = redisson.getDelayedQueue(queue);
+            for (int j = 0; j < 20; j++) {
+                delayedQueue.offer(j, 500 + j * 10, TimeUnit.MILLISECONDS);
+            }
+            queues.add(queue);
+            delayedQueues.add(delayedQueue);
+        }
+
+        for (RBlockingQueue<Integer> queue : queues) {
+            for (int j = 0; j < 20; j++) {
+                assertThat(queue.poll(2, TimeUnit.SECONDS)).isEqualTo(j);
+            }
+        }
+
+        for (RDelayedQueue<Integer> delayedQueue : delayedQueues) {
+            delayedQueue.destroy();
+        }
+    }
+
     @Test
     public void testRemoveAll() throws InterruptedException {
         RBlockingQueue<String> blockingFairQueue = redisson.getBlockingQueue("delay_queue");
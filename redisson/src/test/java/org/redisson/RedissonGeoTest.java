@@ -7,9 +7,7 @@ import org.redisson.api.*;
 import org.redisson.api.geo.GeoSearchArgs;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -47,6 +45,47 @@ public class RedissonGeoTest extends BaseTest {
         assertThat(geo.addIfExists(2.12, 3.5, "city2")).isFalse();
     }
 
+    @Test
+    public void testAddAll() {
+        RGeo<String> geo = redisson.getGeo("test");
+        List<GeoEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new GeoEntry(13 + i * 0.001, 38 + i * 0.001, "vehicle" + i));
+        }
+        assertThat(geo.addAll(entries, 128)).isEqualTo(1000);
+        assertThat(geo.size()).isEqualTo(1000);
+        assertThat(geo.addAll(entries, 128)).isZero();
+        assertThat(geo.addAll(Collections.emptyList(), 128)).isZero();
+    }
+
+    @Test
+    public void testRadiusCount() {
+        RGeo<String> geo = redisson.getGeo("test");
+        geo.add(new GeoEntry(13.361389, 38.115556, "Palermo"), new GeoEntry(15.087269, 37.502669, "Catania"));
+
+        List<Long> counts = geo.radiusCount(Arrays.asList(new GeoPosition(15, 37),
+                                                          new GeoPosition(12, 38),
+                                                          new GeoPosition(30, 50)), 200, GeoUnit.KILOMETERS);
+        assertThat(counts).containsExactly(2L, 1L, 0L);
+    }
+
+    @Test
+    public void testNearest() {
+        RGeo<String> geo = redisson.getGeo("test");
+        geo.add(new GeoEntry(13.361389, 38.115556, "Palermo"), new GeoEntry(15.087269, 37.502669, "Catania"));
+
+        List<List<String>> result = geo.nearest(Arrays.asList(new GeoPosition(15, 37),
+                                                              new GeoPosition(13.3, 38.1),
+                                                              new GeoPosition(30, 50)), 200, GeoUnit.KILOMETERS, 1);
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).containsExactly("Catania");
+        assertThat(result.get(1)).containsExactly("Palermo");
+        assertThat(result.get(2)).isEmpty();
+
+        List<List<String>> result2 = geo.nearest(Arrays.asList(new GeoPosition(15, 37)), 200, GeoUnit.KILOMETERS, 5);
+        assertThat(result2.get(0)).containsExactly("Catania", "Palermo");
+    }
+
     @Test
     public void testTryAdd() {
         Assumptions.assumeTrue(RedisRunner.getDefaultRedisServerInstance().getRedisVersion().compareTo("6.2.0") > 0);
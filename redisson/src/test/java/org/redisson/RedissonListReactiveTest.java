@@ -7,6 +7,7 @@ import org.redisson.client.RedisException;
 import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -482,6 +483,26 @@ public class RedissonListReactiveTest extends BaseReactiveTest {
         Assertions.assertTrue(Arrays.asList(1).containsAll(Collections.emptyList()));
     }
 
+    @Test
+    public void testIteratorPaging() {
+        RListReactive<Integer> list = redisson.getList("list");
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            values.add(i);
+        }
+        sync(list.addAll(values));
+
+        assertThat(Flux.from(list.iterator()).collectList().block()).isEqualTo(values);
+        assertThat(Flux.from(list.iterator()).limitRate(7).collectList().block()).isEqualTo(values);
+        assertThat(Flux.from(list.iterator(240)).collectList().block()).isEqualTo(values.subList(240, 250));
+        assertThat(Flux.from(list.iterator()).take(5).collectList().block()).isEqualTo(values.subList(0, 5));
+
+        List<Integer> reversed = new ArrayList<>(values);
+        Collections.reverse(reversed);
+        assertThat(Flux.from(list.descendingIterator()).limitRate(30).collectList().block()).isEqualTo(reversed);
+        assertThat(Flux.from(list.descendingIterator(120)).collectList().block()).isEqualTo(reversed.subList(129, 250));
+    }
+
     @Test
     public void testIteratorSequence() {
         RListReactive<String> list = redisson.getList("list2");
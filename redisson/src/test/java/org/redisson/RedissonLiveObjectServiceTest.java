@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.*;
 import org.redisson.api.annotation.*;
+import org.redisson.api.condition.Condition;
 import org.redisson.api.condition.Conditions;
 import org.redisson.config.Config;
 import org.redisson.liveobject.resolver.DefaultNamingScheme;
@@ -433,6 +434,34 @@ public class RedissonLiveObjectServiceTest extends BaseTest {
         }
     }
 
+    @Test
+    public void testGetCached() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        TestIndexed t1 = new TestIndexed("1");
+        t1.setNum1(1);
+        t1.setName1("common");
+        s.persist(t1);
+
+        TestIndexed cached = s.getCached(TestIndexed.class, "1");
+        assertThat(cached.getNum1()).isEqualTo(1);
+        assertThat(cached.getName1()).isEqualTo("common");
+
+        cached.setName1("updated");
+        cached.setNum1(2);
+        assertThat(cached.getName1()).isEqualTo("updated");
+        assertThat(s.get(TestIndexed.class, "1").getName1()).isEqualTo("common");
+        assertThat(s.find(TestIndexed.class, Conditions.eq("name1", "updated"))).isEmpty();
+
+        s.asLiveObject(cached).flush();
+
+        TestIndexed loaded = s.get(TestIndexed.class, "1");
+        assertThat(loaded.getName1()).isEqualTo("updated");
+        assertThat(loaded.getNum1()).isEqualTo(2);
+        assertThat(s.find(TestIndexed.class, Conditions.eq("name1", "updated"))).hasSize(1);
+        assertThat(s.find(TestIndexed.class, Conditions.eq("name1", "common"))).isEmpty();
+        assertThat(s.find(TestIndexed.class, Conditions.eq("num1", 2))).hasSize(1);
+    }
+
     @Test
     public void testFindEq2() {
         RLiveObjectService s = redisson.getLiveObjectService();
@@ -629,6 +658,34 @@ public class RedissonLiveObjectServiceTest extends BaseTest {
         assertThat(objects6.iterator().next().getId()).isEqualTo("4");
     }
 
+    @Test
+    public void testFindWithLimit() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        for (int i = 0; i < 10; i++) {
+            TestIndexed t = new TestIndexed("" + i);
+            t.setNum1(i);
+            t.setName1(i % 2 == 0 ? "even" : "odd");
+            s.persist(t);
+        }
+
+        Condition condition = Conditions.and(Conditions.eq("name1", "even"), Conditions.gt("num1", 3));
+        Collection<TestIndexed> all = s.find(TestIndexed.class, condition, 0, 0);
+        assertThat(all).extracting(TestIndexed::getId).containsExactlyInAnyOrder("4", "6", "8");
+
+        Collection<TestIndexed> page1 = s.find(TestIndexed.class, condition, 0, 2);
+        Collection<TestIndexed> page2 = s.find(TestIndexed.class, condition, 2, 2);
+        assertThat(page1).hasSize(2);
+        assertThat(page2).hasSize(1);
+        List<String> ids = new ArrayList<>();
+        page1.forEach(t -> ids.add(t.getId()));
+        page2.forEach(t -> ids.add(t.getId()));
+        assertThat(ids).containsExactlyInAnyOrder("4", "6", "8");
+
+        Collection<TestIndexed> in = s.find(TestIndexed.class, Conditions.and(Conditions.in("name1", "even", "odd"),
+                                                                    Conditions.le("num1", 2)), 0, 0);
+        assertThat(in).extracting(TestIndexed::getId).containsExactlyInAnyOrder("0", "1", "2");
+    }
+
     @Test
     public void testFindGt() {
         RLiveObjectService s = redisson.getLiveObjectService();
@@ -212,6 +212,43 @@ public class RedissonLockTest extends BaseConcurrentTest {
         });
     }
 
+    @Test
+    public void testSharedNotificationChannels() throws InterruptedException {
+        Config config = createConfig();
+        config.setLockNotificationChannels(4);
+        RedissonClient redisson = Redisson.create(config);
+
+        int locks = 20;
+        CountDownLatch acquired = new CountDownLatch(locks);
+        ExecutorService executor = Executors.newFixedThreadPool(locks);
+        for (int i = 0; i < locks; i++) {
+            RLock lock = redisson.getLock("lock" + i);
+            lock.lock();
+            executor.execute(() -> {
+                try {
+                    if (lock.tryLock(5, TimeUnit.SECONDS)) {
+                        acquired.countDown();
+                        lock.unlock();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        Thread.sleep(200);
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < locks; i++) {
+            redisson.getLock("lock" + i).forceUnlock();
+        }
+
+        assertThat(acquired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(1000);
+
+        executor.shutdown();
+        redisson.shutdown();
+    }
+
     @Test
     public void testTryLockWait() throws InterruptedException {
         testSingleInstanceConcurrency(1, r -> {
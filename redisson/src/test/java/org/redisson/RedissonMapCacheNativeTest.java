@@ -0,0 +1,53 @@
+package org.redisson;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMapCacheNative;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RedissonMapCacheNativeTest extends BaseTest {
+
+    @Test
+    public void testPutTTL() throws InterruptedException {
+        Assumptions.assumeTrue(RedisRunner.getDefaultRedisServerInstance().getRedisVersion().compareTo("7.4.0") >= 0);
+
+        RMapCacheNative<String, String> map = redisson.getMapCacheNative("test");
+        map.put("1", "2", 1, TimeUnit.SECONDS);
+        assertThat(map.fastPut("3", "4", 20, TimeUnit.SECONDS)).isTrue();
+        assertThat(map.putIfAbsent("3", "5", 20, TimeUnit.SECONDS)).isEqualTo("4");
+        map.put("5", "6");
+
+        assertThat(map.remainTimeToLive("3")).isBetween(19000L, 20000L);
+        assertThat(map.remainTimeToLive("5")).isEqualTo(-1);
+        assertThat(map.remainTimeToLive("0")).isEqualTo(-2);
+
+        Thread.sleep(1100);
+
+        assertThat(map.get("1")).isNull();
+        assertThat(map.get("3")).isEqualTo("4");
+        assertThat(map.size()).isEqualTo(2);
+        map.destroy();
+    }
+
+    @Test
+    public void testFastPutIfAbsentTTL() throws InterruptedException {
+        Assumptions.assumeTrue(RedisRunner.getDefaultRedisServerInstance().getRedisVersion().compareTo("7.4.0") >= 0);
+
+        RMapCacheNative<String, String> map = redisson.getMapCacheNative("test");
+        assertThat(map.fastPutIfAbsentAsync("1", "2", 1, TimeUnit.SECONDS).toCompletableFuture().join()).isTrue();
+        assertThat(map.fastPutIfAbsent("1", "3", 1, TimeUnit.SECONDS)).isFalse();
+        assertThat(map.get("1")).isEqualTo("2");
+        assertThat(map.remainTimeToLive("1")).isBetween(1L, 1000L);
+
+        Thread.sleep(1100);
+
+        assertThat(map.get("1")).isNull();
+        assertThat(map.fastPutIfAbsent("1", "3", 0, TimeUnit.SECONDS)).isTrue();
+        assertThat(map.remainTimeToLive("1")).isEqualTo(-1);
+        map.destroy();
+    }
+
+}
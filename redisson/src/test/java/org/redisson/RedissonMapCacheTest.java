@@ -271,6 +271,29 @@ public class RedissonMapCacheTest extends BaseMapTest {
         redisson.shutdown();
     }
 
+    @Test
+    public void testCentralizedCleanUp() throws InterruptedException {
+        Config config = new Config();
+        config.useSingleServer().setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setMaxCleanUpDelay(2);
+        config.setMinCleanUpDelay(1);
+        config.setCentralizedCleanUp(true);
+        RedissonClient redisson = Redisson.create(config);
+
+        for (int i = 0; i < 10; i++) {
+            RMapCache<String, String> map = redisson.getMapCache("test" + i, StringCodec.INSTANCE);
+            map.put("1", "1", 1, TimeUnit.SECONDS);
+            map.put("2", "2", 0, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+        }
+
+        Thread.sleep(5000);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(redisson.getMapCache("test" + i).isExists()).isFalse();
+        }
+        redisson.shutdown();
+    }
+
     @Test
     public void testMaxSizeLFU() {
         RMapCache<String, String> map = redisson.getMapCache("test");
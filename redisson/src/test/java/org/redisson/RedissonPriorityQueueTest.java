@@ -3,11 +3,14 @@ package org.redisson;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.Random;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,38 @@ public class RedissonPriorityQueueTest extends BaseTest {
 
     }
 
+    @Test
+    public void testAddPollConcurrent() throws InterruptedException {
+        RPriorityQueue<Integer> queue = redisson.getPriorityQueue("queue");
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            queue.add(random.nextInt(10000));
+        }
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    queue.add(random.nextInt(10000));
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    queue.poll();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<Integer> values = queue.readAll();
+        assertThat(values).hasSize(1000).isSorted();
+    }
+
     @Test
     public void testComparable() {
         RPriorityQueue<Entry> queue = redisson.getPriorityQueue("anyQueue");
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +19,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RFuture;
@@ -317,6 +319,66 @@ public class RedissonRemoteServiceTest extends BaseTest {
         remoteService.deregister(RemoteInterface.class);
     }
 
+    @Test
+    public void testBatchedRequests() throws InterruptedException {
+        RedissonClient r1 = createInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        RRemoteService rs = r1.getRemoteService();
+        rs.register(RemoteInterface.class, new RemoteImpl(), 16, executor);
+
+        RedissonClient r2 = createInstance();
+        RemoteInterfaceAsync ri = r2.getRemoteService().get(RemoteInterfaceAsync.class);
+
+        List<RFuture<Long>> futures = new ArrayList<>();
+        for (long i = 0; i < 2000; i++) {
+            futures.add(ri.resultMethod(i));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).toCompletableFuture().join()).isEqualTo(i * 2L);
+        }
+
+        assertThat(rs.getPendingInvocations(RemoteInterface.class)).isZero();
+        Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> rs.getFreeWorkers(RemoteInterface.class) == 16);
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        r1.shutdown();
+        r2.shutdown();
+    }
+
+    @Test
+    public void testBatchedRequestsFromMultipleClients() throws InterruptedException {
+        RedissonClient r1 = createInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        RRemoteService rs = r1.getRemoteService();
+        rs.register(RemoteInterface.class, new RemoteImpl(), 16, executor);
+
+        RedissonClient r2 = createInstance();
+        RedissonClient r3 = createInstance();
+        RemoteInterfaceAsync ri2 = r2.getRemoteService().get(RemoteInterfaceAsync.class);
+        RemoteInterfaceAsync ri3 = r3.getRemoteService().get(RemoteInterfaceAsync.class);
+
+        List<RFuture<Long>> futures = new ArrayList<>();
+        for (long i = 0; i < 2000; i++) {
+            if (i % 2 == 0) {
+                futures.add(ri2.resultMethod(i));
+            } else {
+                futures.add(ri3.resultMethod(i));
+            }
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).toCompletableFuture().join()).isEqualTo(i * 2L);
+        }
+
+        Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> rs.getFreeWorkers(RemoteInterface.class) == 16);
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        r1.shutdown();
+        r2.shutdown();
+        r3.shutdown();
+    }
+
     @Test
     public void testPendingInvocations() throws InterruptedException, ExecutionException {
         ExecutorService executor = Executors.newSingleThreadExecutor();
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -19,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
 import org.redisson.api.RSortedSet;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
@@ -36,6 +38,99 @@ public class RedissonSortedSetTest extends BaseTest {
         assertThat(set.readAll()).containsExactly(0L, 1L, 2L, 5L);
     }
     
+    @Test
+    public void testAddConcurrent() throws InterruptedException {
+        RSortedSet<Integer> set = redisson.getSortedSet("simple");
+        List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Collections.shuffle(values);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            List<Integer> part = values.subList(i * 250, (i + 1) * 250);
+            Thread t = new Thread(() -> {
+                for (Integer value : part) {
+                    set.add(value);
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(set.add(500)).isFalse();
+        assertThat(set.contains(999)).isTrue();
+        assertThat(set.remove(500)).isTrue();
+        assertThat(set.remove(500)).isFalse();
+        assertThat(set.readAll()).containsExactlyElementsOf(IntStream.range(0, 1000).filter(i -> i != 500).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testAddRemoveConcurrent() throws InterruptedException {
+        RSortedSet<Integer> set = redisson.getSortedSet("simple");
+        for (int i = 0; i < 1000; i += 2) {
+            set.add(i);
+        }
+
+        List<Integer> odd = IntStream.range(0, 1000).filter(i -> i % 2 == 1).boxed().collect(Collectors.toList());
+        List<Integer> even = IntStream.range(0, 1000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+        Collections.shuffle(odd);
+        Collections.shuffle(even);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<Integer> addPart = odd.subList(i * 250, (i + 1) * 250);
+            List<Integer> removePart = even.subList(i * 250, (i + 1) * 250);
+            threads.add(new Thread(() -> {
+                for (Integer value : addPart) {
+                    set.add(value);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (Integer value : removePart) {
+                    set.remove(value);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(set.readAll()).containsExactlyElementsOf(IntStream.range(0, 1000).filter(i -> i % 2 == 1).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testAddWhileLocked() throws InterruptedException {
+        RSortedSet<Integer> set = redisson.getSortedSet("simple");
+        set.add(1);
+        set.add(3);
+
+        RLock lock = redisson.getLock("redisson_sortedset_lock:{simple}");
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread t = new Thread(() -> {
+            lock.lock();
+            locked.countDown();
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                // skip
+            }
+            lock.unlock();
+        });
+        t.start();
+        locked.await();
+
+        long start = System.currentTimeMillis();
+        assertThat(set.add(2)).isTrue();
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(500);
+        assertThat(set.readAll()).containsExactly(1, 2, 3);
+        t.join();
+    }
+
     @Test
     public void testReadAll() {
         RSortedSet<Integer> set = redisson.getSortedSet("simple");
@@ -10,7 +10,9 @@ import org.redisson.client.RedisException;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -34,6 +36,67 @@ public class RedissonStreamTest extends BaseTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    public void testCreateConsumer() {
+        RStream<String, String> stream = redisson.getStream("test");
+        stream.createGroup("testGroup", StreamMessageId.ALL);
+
+        for (int i = 0; i < 500; i++) {
+            stream.add(StreamAddArgs.entry("key" + i, "value" + i));
+        }
+
+        Set<StreamMessageId> handled = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        RStreamGroupConsumer consumer = stream.createConsumer("testGroup", "consumer1",
+                StreamConsumerOptions.defaults()
+                        .prefetchSize(50)
+                        .batchSize(20)
+                        .claimIdleTime(0, TimeUnit.MILLISECONDS),
+                (id, msg) -> {
+                    assertThat(msg).hasSize(1);
+                    handled.add(id);
+                });
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> handled.size() == 500);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> stream.getPendingInfo("testGroup").getTotal() == 0);
+        assertThat(consumer.getPrefetched()).isZero();
+
+        consumer.shutdown();
+        assertThat(consumer.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void testConsumerSkipsInFlightClaimed() {
+        Assumptions.assumeTrue(RedisRunner.getDefaultRedisServerInstance().getRedisVersion().compareTo("6.2.0") > 0);
+
+        RStream<String, String> stream = redisson.getStream("test");
+        stream.createGroup("testGroup", StreamMessageId.ALL);
+
+        for (int i = 0; i < 20; i++) {
+            stream.add(StreamAddArgs.entry("key" + i, "value" + i));
+        }
+
+        Map<StreamMessageId, AtomicInteger> handled = new ConcurrentHashMap<>();
+        RStreamGroupConsumer consumer = stream.createConsumer("testGroup", "consumer1",
+                StreamConsumerOptions.defaults()
+                        .prefetchSize(10)
+                        .claimIdleTime(50, TimeUnit.MILLISECONDS)
+                        .claimInterval(20, TimeUnit.MILLISECONDS),
+                (id, msg) -> {
+                    handled.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> stream.getPendingInfo("testGroup").getTotal() == 0);
+        assertThat(handled).hasSize(20);
+        assertThat(handled.values()).allMatch(c -> c.get() == 1);
+
+        consumer.shutdown();
+    }
+
     @Test
     public void testAutoClaim() {
         RStream<String, String> stream = redisson.getStream("test");
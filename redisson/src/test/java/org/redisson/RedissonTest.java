@@ -10,8 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.redisson.ClusterRunner.ClusterProcesses;
 import org.redisson.RedisRunner.RedisProcess;
 import org.redisson.api.*;
+import org.redisson.api.redisnode.ConnectionPoolStats;
 import org.redisson.api.redisnode.RedisClusterMaster;
+import org.redisson.api.redisnode.RedisNode;
 import org.redisson.api.redisnode.RedisNodes;
+import org.redisson.api.redisnode.RedisSingle;
 import org.redisson.client.*;
 import org.redisson.client.codec.BaseCodec;
 import org.redisson.client.codec.StringCodec;
@@ -25,8 +28,10 @@ import org.redisson.codec.JsonJacksonCodec;
 import org.redisson.codec.SerializationCodec;
 import org.redisson.config.Config;
 import org.redisson.config.ReadMode;
+import org.redisson.config.SharedConnectionMode;
 import org.redisson.config.SubscriptionMode;
 import org.redisson.connection.CRC16;
+import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ConnectionListener;
 import org.redisson.connection.MasterSlaveConnectionManager;
 import org.redisson.connection.balancer.RandomLoadBalancer;
@@ -326,6 +331,126 @@ public class RedissonTest extends BaseTest {
         Assertions.assertEquals(0, pp.stop());
     }
     
+    @Test
+    public void testBackgroundConnectionsInit() throws IOException, InterruptedException {
+        RedisProcess p = redisTestConnection();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setBackgroundConnectionsInit(true)
+                .setConnectionsInitConcurrency(1)
+                .setConnectionMinimumIdleSize(64)
+                .setAddress(p.getRedisServerAddressAndPort());
+        RedissonClient r = Redisson.create(config);
+
+        ClientConnectionsEntry entry = ((Redisson) r).getConnectionManager().getEntrySet().iterator().next().getMasterEntry();
+        assertThat(entry.getAllConnections().size()).isLessThan(64);
+
+        r.getBucket("1").set("1");
+
+        RedisSingle nodes = r.getRedisNodes(RedisNodes.SINGLE);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> {
+            String clients = nodes.getInstance().info(RedisNode.InfoSection.CLIENTS).get("connected_clients");
+            return Integer.parseInt(clients) >= 65;
+        });
+        assertThat(entry.getAllConnections()).hasSize(64);
+
+        r.shutdown();
+        Assertions.assertEquals(0, p.stop());
+    }
+
+    @Test
+    public void testAdaptiveConnectionPool() throws IOException, InterruptedException {
+        RedisProcess p = redisTestConnection();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setAdaptiveConnectionPool(true)
+                .setConnectionMinimumIdleSize(1)
+                .setConnectionPoolSize(16)
+                .setIdleConnectionTimeout(1000)
+                .setAddress(p.getRedisServerAddressAndPort());
+        RedissonClient r = Redisson.create(config);
+
+        ClientConnectionsEntry entry = ((Redisson) r).getConnectionManager().getEntrySet().iterator().next().getMasterEntry();
+        assertThat(entry.getPoolSize()).isEqualTo(1);
+
+        List<RFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            futures.add(r.getBucket("test" + i).setAsync(i));
+        }
+        for (RFuture<Void> future : futures) {
+            future.toCompletableFuture().join();
+        }
+        assertThat(r.getKeys().count()).isEqualTo(5000);
+
+        ConnectionPoolStats stats = r.getRedisNodes(RedisNodes.SINGLE).getInstance().getConnectionPoolStats();
+        assertThat(stats.getPoolSize()).isGreaterThan(1).isLessThanOrEqualTo(16);
+        assertThat(stats.getAcquiredConnections()).isGreaterThanOrEqualTo(5000);
+        assertThat(stats.getAwaitedConnections()).isGreaterThan(0);
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> entry.getPoolSize() == 1);
+
+        r.shutdown();
+        Assertions.assertEquals(0, p.stop());
+    }
+
+    @Test
+    public void testSharedConnections() throws IOException, InterruptedException {
+        RedisProcess p = redisTestConnection();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setSharedConnectionsAmount(2)
+                .setSharedConnectionMode(SharedConnectionMode.ROUND_ROBIN)
+                .setConnectionMinimumIdleSize(1)
+                .setConnectionPoolSize(64)
+                .setSubscriptionConnectionMinimumIdleSize(1)
+                .setAddress(p.getRedisServerAddressAndPort());
+        RedissonClient r = Redisson.create(config);
+
+        List<RFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            futures.add(r.getBucket("test" + i).setAsync(i));
+        }
+        for (RFuture<Void> future : futures) {
+            future.toCompletableFuture().join();
+        }
+        assertThat(r.getKeys().count()).isEqualTo(5000);
+        assertThat(r.getBucket("test10").get()).isEqualTo(10);
+
+        assertThat(r.getBlockingQueue("queue").poll(1, TimeUnit.SECONDS)).isNull();
+
+        RedisSingle nodes = r.getRedisNodes(RedisNodes.SINGLE);
+        String clients = nodes.getInstance().info(RedisNode.InfoSection.CLIENTS).get("connected_clients");
+        assertThat(Integer.parseInt(clients)).isLessThanOrEqualTo(8);
+
+        r.shutdown();
+        Assertions.assertEquals(0, p.stop());
+    }
+
+    @Test
+    public void testSharedConnectionsMinimumIdleSize() throws IOException, InterruptedException {
+        RedisProcess p = redisTestConnection();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setSharedConnectionsAmount(2)
+                .setConnectionMinimumIdleSize(24)
+                .setSubscriptionConnectionMinimumIdleSize(1)
+                .setAddress(p.getRedisServerAddressAndPort());
+        RedissonClient r = Redisson.create(config);
+
+        r.getBucket("test").set(1);
+
+        RedisSingle nodes = r.getRedisNodes(RedisNodes.SINGLE);
+        String clients = nodes.getInstance().info(RedisNode.InfoSection.CLIENTS).get("connected_clients");
+        assertThat(Integer.parseInt(clients)).isLessThanOrEqualTo(4);
+
+        r.shutdown();
+        Assertions.assertEquals(0, p.stop());
+    }
+
     @Test
     public void testFailoverInSentinel() throws Exception {
         RedisRunner.RedisProcess master = new RedisRunner()
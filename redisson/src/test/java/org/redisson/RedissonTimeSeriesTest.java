@@ -3,6 +3,7 @@ package org.redisson;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RTimeSeries;
 import org.redisson.api.TimeSeriesEntry;
+import org.redisson.client.codec.DoubleCodec;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -40,6 +41,31 @@ public class RedissonTimeSeriesTest extends BaseTest {
         assertThat(t.size()).isEqualTo(4);
     }
 
+    @Test
+    public void testAggregate() {
+        RTimeSeries<Double> t = redisson.getTimeSeries("test", DoubleCodec.INSTANCE);
+        for (int i = 0; i < 2500; i++) {
+            t.add(i, (double) (i % 10));
+        }
+
+        Collection<TimeSeriesEntry<Double>> max = t.aggregate(0, 2499, 1000, RTimeSeries.Aggregate.MAX);
+        assertThat(max).containsExactly(new TimeSeriesEntry<>(0, 9.0),
+                                        new TimeSeriesEntry<>(1000, 9.0),
+                                        new TimeSeriesEntry<>(2000, 9.0));
+
+        Collection<TimeSeriesEntry<Double>> count = t.aggregate(0, 2499, 1000, RTimeSeries.Aggregate.COUNT);
+        assertThat(count).containsExactly(new TimeSeriesEntry<>(0, 1000.0),
+                                          new TimeSeriesEntry<>(1000, 1000.0),
+                                          new TimeSeriesEntry<>(2000, 500.0));
+
+        Collection<TimeSeriesEntry<Double>> avg = t.aggregate(10, 19, 5, RTimeSeries.Aggregate.AVG);
+        assertThat(avg).containsExactly(new TimeSeriesEntry<>(10, 2.0),
+                                        new TimeSeriesEntry<>(15, 7.0));
+
+        Collection<TimeSeriesEntry<Double>> sum = t.aggregate(0, 9, 10, RTimeSeries.Aggregate.SUM);
+        assertThat(sum).containsExactly(new TimeSeriesEntry<>(0, 45.0));
+    }
+
     @Test
     public void testOrder() {
         RTimeSeries<String> t = redisson.getTimeSeries("test");
@@ -16,6 +16,7 @@ import org.redisson.cluster.ClusterNodeInfo;
 import org.redisson.config.Config;
 import org.redisson.config.SubscriptionMode;
 import org.redisson.connection.balancer.RandomLoadBalancer;
+import org.redisson.misc.VirtualThreads;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -109,6 +110,121 @@ public class RedissonTopicTest {
         redisson.shutdown();
     }
     
+    @Test
+    public void testSlowListenerDoesNotBlockOtherChannels() throws InterruptedException {
+        RedissonClient redisson = BaseTest.createInstance();
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        RTopic slowTopic = redisson.getTopic("slowTopic", LongCodec.INSTANCE);
+        slowTopic.addListener(Long.class, (channel, msg) -> {
+            try {
+                slowLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        RPatternTopic fastTopic = redisson.getPatternTopic("fastTopic*", LongCodec.INSTANCE);
+        fastTopic.addListener(Long.class, (pattern, channel, msg) -> {
+            if (channel.toString().equals("fastTopic1")) {
+                received.add(msg);
+            }
+        });
+
+        slowTopic.publish(1L);
+        RTopic fastTopic1 = redisson.getTopic("fastTopic1", LongCodec.INSTANCE);
+        RTopic fastTopic2 = redisson.getTopic("fastTopic2", LongCodec.INSTANCE);
+        for (long i = 0; i < 100; i++) {
+            fastTopic1.publish(i);
+            fastTopic2.publish(i);
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received.size() == 100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(received.get(i)).isEqualTo((long) i);
+        }
+
+        slowLatch.countDown();
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testVirtualThreads() throws InterruptedException {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+        Config config = BaseTest.createConfig();
+        config.setVirtualThreads(true);
+        RedissonClient redisson = Redisson.create(config);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean virtual = new AtomicBoolean();
+        RTopic topic = redisson.getTopic("topic");
+        topic.addListener(String.class, (channel, msg) -> {
+            virtual.set(VirtualThreads.isVirtual(Thread.currentThread()));
+            latch.countDown();
+        });
+        topic.publish("test");
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual.get()).isTrue();
+
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testPublisher() {
+        RedissonClient redisson = BaseTest.createInstance();
+        RTopic topic = redisson.getTopic("topic", LongCodec.INSTANCE);
+        AtomicInteger counter = new AtomicInteger();
+        topic.addListener(Long.class, (channel, msg) -> {
+            counter.incrementAndGet();
+        });
+
+        RTopicPublisher publisher = topic.createPublisher(TopicPublisherOptions.defaults()
+                                                .batchSize(50)
+                                                .maxDelay(10, TimeUnit.MILLISECONDS));
+        List<RFuture<Long>> futures = new ArrayList<>();
+        for (long i = 0; i < 1005; i++) {
+            futures.add(publisher.publishAsync(i));
+        }
+        for (RFuture<Long> future : futures) {
+            assertThat(future.toCompletableFuture().join()).isEqualTo(1L);
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> counter.get() == 1005);
+
+        publisher.shutdown();
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testPublisherOrder() {
+        RedissonClient redisson = BaseTest.createInstance();
+        RTopic topic = redisson.getTopic("topic", LongCodec.INSTANCE);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        topic.addListener(Long.class, (channel, msg) -> {
+            received.add(msg);
+        });
+
+        RTopicPublisher publisher = topic.createPublisher(TopicPublisherOptions.defaults()
+                                                .batchSize(10)
+                                                .maxDelay(1, TimeUnit.MILLISECONDS));
+        List<Long> sent = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            publisher.publishAsync(i);
+            sent.add(i);
+            if (i % 7 == 0) {
+                publisher.flush();
+            }
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received.size() == 1000);
+        assertThat(received).isEqualTo(sent);
+
+        publisher.shutdown();
+        redisson.shutdown();
+    }
+
     @Test
     public void testCountListeners() {
         RedissonClient redisson = BaseTest.createInstance();
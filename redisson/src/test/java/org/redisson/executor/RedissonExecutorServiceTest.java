@@ -6,6 +6,7 @@ import static org.awaitility.Awaitility.await;
 import java.io.IOException;
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -556,6 +557,27 @@ public class RedissonExecutorServiceTest extends BaseTest {
         assertThat(e.awaitTermination(1500, TimeUnit.MILLISECONDS)).isTrue();
     }
     
+    @Test
+    public void testBatchedTaskClaiming() throws InterruptedException, ExecutionException, TimeoutException {
+        RExecutorService e = redisson.getExecutorService("batched");
+        e.registerWorkers(WorkerOptions.defaults().workers(16));
+
+        List<RExecutorFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(e.submit(new IncrementCallableTask("myCounter")));
+        }
+        for (RExecutorFuture<?> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("1234");
+        }
+
+        assertThat(redisson.getAtomicLong("myCounter").get()).isEqualTo(1000);
+        assertThat(e.getTaskCount()).isZero();
+
+        e.shutdown();
+        assertThat(e.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        redisson.getKeys().delete("myCounter");
+    }
+
     @Test
     public void testShutdown() throws InterruptedException {
         RExecutorService e = redisson.getExecutorService("test");
@@ -267,6 +267,48 @@ public class JCacheTest extends BaseTest {
         runner.stop();
     }
     
+    @Test
+    public void testPartitioned() throws Exception {
+        RedisProcess runner = new RedisRunner()
+                .nosave()
+                .randomDir()
+                .port(6311)
+                .run();
+
+        URL configUrl = getClass().getResource("redisson-jcache.yaml");
+        Config cfg = Config.fromYAML(configUrl);
+
+        Configuration<String, String> config = RedissonConfiguration.fromConfig(cfg, new MutableConfiguration<>(), 8);
+        Cache<String, String> cache = Caching.getCachingProvider().getCacheManager()
+                .createCache("test", config);
+
+        Map<String, String> m = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            m.put("" + i, "" + i);
+        }
+        cache.putAll(m);
+
+        assertThat(cache.get("10")).isEqualTo("10");
+        assertThat(cache.getAll(m.keySet())).isEqualTo(m);
+
+        int count = 0;
+        for (Cache.Entry<String, String> entry : cache) {
+            assertThat(entry.getValue()).isEqualTo(m.get(entry.getKey()));
+            count++;
+        }
+        assertThat(count).isEqualTo(m.size());
+
+        cache.removeAll(new HashSet<>(Arrays.asList("1", "2", "3")));
+        assertThat(cache.containsKey("1")).isFalse();
+        assertThat(cache.containsKey("4")).isTrue();
+
+        cache.clear();
+        assertThat(cache.getAll(m.keySet())).isEmpty();
+
+        cache.close();
+        runner.stop();
+    }
+
     @Test
     public void testGetAll() throws Exception {
         RedisProcess runner = new RedisRunner()